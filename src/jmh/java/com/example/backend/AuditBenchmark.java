@@ -0,0 +1,82 @@
+package com.example.backend;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the audit of one student against two majors and a minor as the transcript grows, to
+ * show how {@link Student#getProgressString()}, the same audit without rendering its text, and the audit
+ * with courses assigned by an {@link AssignmentEngine}, scale with the number of courses:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="AuditBenchmark"}.
+ *
+ * The transcripts are drawn from the course catalog with a fixed seed, mostly from the departments the
+ * selected concentrations ask for so that requirements are actually fulfilled, with some courses
+ * retaken, some withdrawn from and some carrying writing types. A real transcript has about 40 courses;
+ * the larger sizes stand in for cohort audits over transfer-heavy or concatenated records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditBenchmark {
+
+    private static final List<String> DEPARTMENTS = List.of("CSC", "MTH", "STA", "ECO");
+    private static final String[] GRADES = {"A", "A-", "B+", "B", "B-", "C+", "C", "C-", "D", "F", "W", "CIP"};
+    private static final String[] TYPES = {"WAC", "WAC-R", "QMR", "SOCS"};
+
+    @Param({"40", "100", "200", "400"})
+    public int courses;
+
+    private final AssignmentEngine engine = new AssignmentEngine(Duration.ofMillis(50));
+
+    private Student student;
+
+    @Setup(Level.Trial)
+    public void buildTranscript() {
+        RequirementCatalog catalog = RequirementCatalog.getDefault();
+        List<CatalogCourse> wanted = new ArrayList<>();
+        List<CatalogCourse> others = new ArrayList<>();
+        for (CatalogCourse course : catalog.getCourses().getCourses()) {
+            (DEPARTMENTS.contains(course.getDepartment()) ? wanted : others).add(course);
+        }
+
+        Random random = new Random(2027);
+        ArrayList<Course> transcript = new ArrayList<>();
+        for (int i = 0; i < courses; i++) {
+            List<CatalogCourse> pool = random.nextInt(10) < 6 ? wanted : others;
+            CatalogCourse course = pool.get(random.nextInt(pool.size()));
+            ArrayList<String> types = new ArrayList<>();
+            if (random.nextInt(4) == 0) {
+                types.add(TYPES[random.nextInt(TYPES.length)]);
+            }
+            transcript.add(new Course("Fall", String.valueOf(2020 + i / 10), course.getCode(), course.getTitle(),
+                types, 1, GRADES[random.nextInt(GRADES.length)]));
+        }
+
+        ArrayList<Concentration> majors = new ArrayList<>(List.of(new Concentration(false, "Computer Science", catalog),
+            new Concentration(false, "Managerial Economics", catalog)));
+        ArrayList<Concentration> minors = new ArrayList<>(List.of(new Concentration(true, "Mathematics", catalog)));
+        student = new Student(2027, transcript, majors, minors);
+    }
+
+    @Benchmark
+    public String audit() {
+        return student.getProgressString();
+    }
+
+    @Benchmark
+    public AuditResult auditResult() {
+        return student.audit();
+    }
+
+    @Benchmark
+    public String auditMatching() {
+        return student.getProgressString(engine);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.backend;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the PDF ingestion pipeline over the bundled sample transcripts, end to end and one
+ * stage at a time, so a parser change can be attributed to the stage it affects.
+ *
+ * Each benchmark reports both throughput and a latency distribution. Run with the gc profiler to
+ * also report allocation rate per operation:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="IngestionBenchmark -prof gc"}.
+ *
+ * The inputs of every stage are prepared once per trial from the output of the stage before it, so
+ * each stage benchmark measures only its own work. The sheet-writing stages write
+ * output/ParsedTranscript.xlsx under {@code user.dir}, which is pointed at a scratch directory for
+ * the trial so the checked-in workbook is left alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionBenchmark {
+
+    @Param({
+        "src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf",
+        "src/main/resources/Cavalluzzi_Annie_2687199_2_24_2025.pdf",
+        "uploads/Secrist_Liam_2686252_2_14_2025_redacted.pdf"
+    })
+    public String pdf;
+
+    private String path;
+    private byte[] bytes;
+    private PDDocument document;
+    private String text;
+    private List<String> firstColumn;
+    private List<String> secondColumn;
+    private List<String> filteredFirst;
+    private List<String> filteredSecond;
+    private List<String> associated;
+    private List<TranscriptToken> tokens;
+    private List<Course> courses;
+
+    private String userDir;
+    private PrintStream stdout;
+    private Path scratch;
+
+    @Setup(Level.Trial)
+    public void prepareStages() throws IOException {
+        path = new File(pdf).getAbsolutePath();
+        bytes = Files.readAllBytes(Path.of(path));
+        document = PDDocument.load(bytes);
+        text = new PDFTextStripper().getText(document);
+
+        firstColumn = new ArrayList<>();
+        secondColumn = new ArrayList<>();
+        PDFParser.reorderColumns(text, firstColumn, secondColumn);
+        filteredFirst = PDFParser.filterNecessaryLines(firstColumn);
+        filteredSecond = PDFParser.filterNecessaryLines(secondColumn);
+        associated = PDFParser.associateCourseTypes(filteredFirst);
+        associated.addAll(PDFParser.associateCourseTypes(filteredSecond));
+
+        tokens = PDFParser.streamRegionTokens(document, 1, document.getNumberOfPages());
+        courses = PDFParser.buildCourses(tokens);
+
+        // Keep the sheet writes out of the working tree, and their progress messages out of the results
+        scratch = Files.createTempDirectory("ingestion-benchmark");
+        userDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", scratch.toString());
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void restore() throws IOException {
+        System.setOut(stdout);
+        System.setProperty("user.dir", userDir);
+        document.close();
+        Files.deleteIfExists(scratch.resolve("output").resolve("ParsedTranscript.xlsx"));
+        Files.deleteIfExists(scratch.resolve("output"));
+        Files.deleteIfExists(scratch);
+    }
+
+    /**
+     * The original pipeline end to end: load, strip, reorder, filter, associate and write the sheet.
+     */
+    @Benchmark
+    public Sheet processPdf() {
+        return PDFParser.processPDF(path);
+    }
+
+    /**
+     * The upload pipeline end to end: load from memory, extract column regions and build courses.
+     */
+    @Benchmark
+    public List<Course> parseCourses() throws IOException {
+        return PDFParser.parseCourses(bytes);
+    }
+
+    @Benchmark
+    public int loadDocument() throws IOException {
+        try (PDDocument loaded = PDDocument.load(bytes)) {
+            return loaded.getNumberOfPages();
+        }
+    }
+
+    @Benchmark
+    public String stripText() throws IOException {
+        return new PDFTextStripper().getText(document);
+    }
+
+    @Benchmark
+    public List<TranscriptToken> extractRegions() throws IOException {
+        return PDFParser.streamRegionTokens(document, 1, document.getNumberOfPages());
+    }
+
+    @Benchmark
+    public List<String> reorderColumns() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        PDFParser.reorderColumns(text, first, second);
+        first.addAll(second);
+        return first;
+    }
+
+    @Benchmark
+    public List<String> filterNecessaryLines() {
+        List<String> kept = PDFParser.filterNecessaryLines(firstColumn);
+        kept.addAll(PDFParser.filterNecessaryLines(secondColumn));
+        return kept;
+    }
+
+    @Benchmark
+    public List<String> associateCourseTypes() {
+        List<String> lines = PDFParser.associateCourseTypes(filteredFirst);
+        lines.addAll(PDFParser.associateCourseTypes(filteredSecond));
+        return lines;
+    }
+
+    @Benchmark
+    public Sheet constructSheet() {
+        return PDFParser.constructSheet(associated);
+    }
+
+    @Benchmark
+    public List<Course> buildCourses() {
+        return PDFParser.buildCourses(tokens);
+    }
+
+    @Benchmark
+    public int writeCourseSheet() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PDFParser.writeCourseSheet(courses, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the single-pass TranscriptLexer against the String.matches classification that PDFParser
+ * used before it, over the column lines of the bundled sample transcripts.
+ *
+ * The regex path repeats the classification work of the old pipeline: every line is tested in
+ * filterNecessaryLines, the kept lines are tested again in associateCourseTypes, and again in
+ * constructSheet, each test trimming the line and compiling its pattern.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+
+    private static final String COURSE_LINE_REGEX = "^[A-Z]{3} \\d{3}[A-Z]? .*";
+    private static final String TERM_HEADER_REGEX = ".*Term \\d{4}.*";
+    private static final String COURSE_TYPE_REGEX = "^[A-Z-]{3,6}$";
+
+    @Param({
+        "src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf",
+        "src/main/resources/Cavalluzzi_Annie_2687199_2_24_2025.pdf",
+        "uploads/Secrist_Liam_2686252_2_14_2025_redacted.pdf"
+    })
+    public String pdf;
+
+    private List<String> lines;
+
+    @Setup
+    public void extractLines() throws IOException {
+        try (PDDocument document = PDDocument.load(new File(pdf))) {
+            String text = new PDFTextStripper().getText(document);
+            List<String> firstColumn = new ArrayList<>();
+            List<String> secondColumn = new ArrayList<>();
+            PDFParser.reorderColumns(text, firstColumn, secondColumn);
+            firstColumn.addAll(secondColumn);
+            lines = firstColumn;
+        }
+    }
+
+    @Benchmark
+    public void regexPath(Blackhole blackhole) {
+        List<String> kept = new ArrayList<>();
+        for (String line : lines) {
+            if (line.trim().matches(COURSE_LINE_REGEX) || line.trim().matches(TERM_HEADER_REGEX) || line.trim().matches(COURSE_TYPE_REGEX)) {
+                kept.add(line);
+            }
+        }
+        int courses = 0;
+        for (String line : kept) {
+            if (line.trim().matches(COURSE_LINE_REGEX)) {
+                courses++;
+            } else if (line.trim().matches(COURSE_TYPE_REGEX)) {
+                blackhole.consume(line);
+            }
+        }
+        for (String line : kept) {
+            if (line.trim().matches(TERM_HEADER_REGEX)) {
+                blackhole.consume(line);
+            } else if (line.trim().matches(COURSE_LINE_REGEX)) {
+                blackhole.consume(line);
+            }
+        }
+        blackhole.consume(courses);
+    }
+
+    @Benchmark
+    public void lexerPath(Blackhole blackhole) {
+        int courses = 0;
+        for (String line : lines) {
+            TranscriptToken token = TranscriptLexer.lex(line);
+            if (token.getKind() == LineKind.COURSE) {
+                courses++;
+            }
+            blackhole.consume(token);
+        }
+        blackhole.consume(courses);
+    }
+
+    @Benchmark
+    public void lexerClassifyOnly(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(TranscriptLexer.classify(line));
+        }
+    }
+}
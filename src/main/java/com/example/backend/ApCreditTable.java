@@ -0,0 +1,240 @@
+package com.example.backend;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The ApCreditTable class holds the Advanced Placement equivalencies of {@code AP-Test-Credits.xlsx},
+ * indexed by exam and score, and grants students credit for the exams they report.
+ *
+ * Each rule gives the credits an exam score is worth and the courses it stands in for, such as
+ * "MTH-110 and MTH-112" for a 5 in Calculus BC. Some rules only apply alongside another exam, such as
+ * Macroeconomics with Microeconomics, and some grant credit without an equivalent course ("---").
+ * Granting credit takes one hash lookup per exam.
+ */
+public final class ApCreditTable {
+
+    /**
+     * Matches an equivalent course code, e.g. "MTH-110" or "CSC-11X".
+     */
+    private static final Pattern COURSE_CODE = Pattern.compile("[A-Z]{3}-[0-9X]{3}[A-Z]?");
+
+    /**
+     * Every rule, in table order.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * The rules of each exam score, keyed by {@link #key}.
+     */
+    private final Map<String, List<Rule>> index;
+
+    /**
+     * Constructs a table of rules and indexes them.
+     *
+     * @param rules the rules, in table order
+     */
+    ApCreditTable(List<Rule> rules) {
+        this.rules = List.copyOf(rules);
+        Map<String, List<Rule>> grouped = new HashMap<>();
+        for (Rule rule : this.rules) {
+            grouped.computeIfAbsent(key(rule.exam().name(), rule.exam().score()), k -> new ArrayList<>()).add(rule);
+        }
+        Map<String, List<Rule>> frozen = new HashMap<>();
+        grouped.forEach((key, scored) -> frozen.put(key, List.copyOf(scored)));
+        this.index = Map.copyOf(frozen);
+    }
+
+    /**
+     * Builds a rule from the cells of one row of the table.
+     *
+     * @param exam the name of the exam
+     * @param score the score earned
+     * @param credits the credits the score is worth
+     * @param equivalent the courses it stands in for, separated by "and", or any other text if none
+     * @param requires the other exam that must also be reported, as "Exam, score", or empty if none
+     * @return the rule
+     * @throws IllegalArgumentException if the other exam cannot be parsed
+     */
+    static Rule rule(String exam, int score, double credits, String equivalent, String requires) {
+        List<String> courses = new ArrayList<>();
+        for (String code : equivalent.split("\\s+and\\s+")) {
+            if (COURSE_CODE.matcher(code.trim()).matches()) {
+                courses.add(code.trim());
+            }
+        }
+        return new Rule(new Exam(exam, score), credits, equivalent, courses,
+            requires.isBlank() ? null : Exam.parse(requires));
+    }
+
+    /**
+     * Returns every rule.
+     *
+     * @return an unmodifiable list of the rules, in table order
+     */
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the rules of an exam score.
+     *
+     * @param exam the exam and score, with the exam named in any case
+     * @return the rules, or an empty list if the score earns no credit
+     */
+    public List<Rule> lookup(Exam exam) {
+        return index.getOrDefault(key(exam.name(), exam.score()), List.of());
+    }
+
+    /**
+     * Grants credit for the exams a student reported. A rule that requires another exam applies only if
+     * that exam was reported with that score. An equivalent course is granted once, however many exams
+     * stand in for it, and not at all if the transcript already has it.
+     *
+     * @param exams the exams the student reported
+     * @param transcript the courses on the student's transcript
+     * @return the credit awarded for each exam, and the AP courses to add to the transcript
+     */
+    public Grant apply(List<Exam> exams, List<Course> transcript) {
+        Set<String> reported = new HashSet<>();
+        for (Exam exam : exams) {
+            reported.add(key(exam.name(), exam.score()));
+        }
+        Set<String> granted = new HashSet<>();
+        for (Course course : transcript) {
+            granted.add(course.getCode());
+        }
+
+        ArrayList<Award> awards = new ArrayList<>();
+        ArrayList<Course> courses = new ArrayList<>();
+        for (Exam exam : exams) {
+            for (Rule rule : lookup(exam)) {
+                Exam requires = rule.requires();
+                if (requires != null && !reported.contains(key(requires.name(), requires.score()))) continue;
+
+                awards.add(new Award(exam, rule.credits(), rule.courses()));
+                // The exam's credits are split across the courses it stands in for
+                int credits = rule.courses().isEmpty() ? 0 : (int) (rule.credits() / rule.courses().size());
+                for (String code : rule.courses()) {
+                    if (granted.add(code)) {
+                        courses.add(new Course(code, credits));
+                    }
+                }
+            }
+        }
+        return new Grant(List.copyOf(awards), List.copyOf(courses));
+    }
+
+    /**
+     * Returns the index key of an exam score.
+     *
+     * @param exam the name of the exam
+     * @param score the score
+     * @return the trimmed, lower-case exam name and the score
+     */
+    private static String key(String exam, int score) {
+        return exam.trim().toLowerCase(Locale.ROOT) + '\n' + score;
+    }
+
+    /**
+     * An AP exam and the score earned on it.
+     *
+     * @param name the name of the exam, e.g. "Calculus BC"
+     * @param score the score, from 1 to 5
+     */
+    public record Exam(String name, int score) {
+
+        /**
+         * Parses an exam in the form used by the table and by selections, e.g. "Calculus BC, 5".
+         *
+         * @param text the exam name and score, separated by the last comma
+         * @return the exam
+         * @throws IllegalArgumentException if there is no name or the score is not a number
+         */
+        public static Exam parse(String text) {
+            int comma = text.lastIndexOf(',');
+            if (comma <= 0) {
+                throw new IllegalArgumentException("Expected \"exam, score\" but got \"" + text + "\"");
+            }
+            String name = text.substring(0, comma).trim();
+            try {
+                return new Exam(name, (int) Double.parseDouble(text.substring(comma + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid score for AP exam " + name + ": \"" + text + "\"", e);
+            }
+        }
+
+        /**
+         * Parses a list of exams.
+         *
+         * @param texts the exams, each as "exam, score"
+         * @return the exams, in order
+         * @throws IllegalArgumentException if an exam cannot be parsed
+         */
+        public static List<Exam> parseAll(List<String> texts) {
+            List<Exam> exams = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                exams.add(parse(text));
+            }
+            return exams;
+        }
+    }
+
+    /**
+     * One row of the table.
+     *
+     * @param exam the exam and score the rule applies to
+     * @param credits the credits the score is worth
+     * @param equivalent the equivalency as written in the table, e.g. "MTH-110 and MTH-112" or "---"
+     * @param courses the course codes in the equivalency, empty if it names none
+     * @param requires the other exam and score that must also be reported, or null if none
+     */
+    public record Rule(Exam exam, double credits, String equivalent, List<String> courses, Exam requires) {
+
+        /**
+         * Constructs a rule, copying its courses.
+         */
+        public Rule {
+            courses = List.copyOf(courses);
+        }
+    }
+
+    /**
+     * The credit awarded for one exam.
+     *
+     * @param exam the exam
+     * @param credits the credits awarded
+     * @param courses the courses the exam stands in for
+     */
+    public record Award(Exam exam, double credits, List<String> courses) {
+    }
+
+    /**
+     * The credit granted to a student.
+     *
+     * @param awards the credit awarded for each exam, in the order reported
+     * @param courses the AP courses to add to the transcript
+     */
+    public record Grant(List<Award> awards, List<Course> courses) {
+
+        /**
+         * Returns a transcript with the granted AP courses added, leaving the original untouched, as
+         * parsed transcripts are shared through the transcript cache.
+         *
+         * @param transcript the courses on the transcript
+         * @return a new list of the transcript's courses followed by the AP courses
+         */
+        public ArrayList<Course> addTo(List<Course> transcript) {
+            ArrayList<Course> courses = new ArrayList<>(transcript.size() + this.courses.size());
+            courses.addAll(transcript);
+            courses.addAll(this.courses);
+            return courses;
+        }
+    }
+}
@@ -0,0 +1,506 @@
+package com.example.backend;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The AssignmentEngine class audits a concentration by assigning the student's courses to all of its
+ * requirements at once, instead of letting each requirement take the first matching courses in sheet
+ * order. The greedy audit can use a course on an early requirement that a later one needed, and report
+ * less progress than the transcript supports.
+ *
+ * Each requirement is split into slots, one per course it needs, and each slot accepts the courses that
+ * match the requirement's course groups and minimum grade and, for some slots, a level threshold or course
+ * type. Slots and courses form a bipartite graph, and the engine finds a maximum matching with augmenting
+ * paths, taking the most constrained slots, those with the fewest candidate courses, first. A sequence
+ * requirement is tried with each choice of sequences in turn, and a requirement whose course types must
+ * share slots with its level thresholds with each threshold in turn, keeping the choice that completes the
+ * most requirements, then fills the most slots, then leaves the fewest slots empty.
+ *
+ * The search stops at the time budget and keeps the best assignment found so far, so an audit never takes
+ * much longer than the budget, however many choices a concentration has. The first matching is always
+ * finished, so even a zero budget gives an assignment.
+ */
+public final class AssignmentEngine {
+
+    /**
+     * How long to search for an assignment of one concentration before keeping the best found so far.
+     */
+    private final Duration timeBudget;
+
+    /**
+     * Constructs an engine.
+     *
+     * @param timeBudget how long to search for an assignment of one concentration
+     */
+    public AssignmentEngine(Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Returns how long the engine searches for an assignment of one concentration.
+     *
+     * @return the time budget
+     */
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Assigns a student's courses to the requirements of a concentration, using each course at most once.
+     *
+     * @param requirements the requirements of the concentration, in sheet order
+     * @param index the student's courses
+     * @param wildcardExclusions the course numbers that wildcard course groups never match
+     * @return the courses assigned to each requirement
+     */
+    Assignment assign(List<Requirement> requirements, TranscriptIndex index, Set<String> wildcardExclusions) {
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        // The slots of most requirements are the same whatever is chosen for the others; sequence requirements
+        // choose their sequences, and requirements whose course types share slots with their level thresholds
+        // choose the threshold those slots have
+        List<Slot> fixed = new ArrayList<>();
+        List<int[][]> choices = new ArrayList<>();
+        for (int r = 0; r < requirements.size(); r++) {
+            Requirement requirement = requirements.get(r);
+            int thresholds = requirement.isSeq() ? 0 : mergedThresholds(requirement);
+            if (requirement.isSeq()) {
+                choices.add(sequenceChoices(requirement.getSequences().size(),
+                    Math.min(requirement.getNumNeeded(), requirement.getSequences().size())));
+            } else if (thresholds > 1) {
+                int[][] thresholdChoices = new int[thresholds][];
+                for (int t = 0; t < thresholds; t++) {
+                    thresholdChoices[t] = new int[] {t};
+                }
+                choices.add(thresholdChoices);
+            } else {
+                addSlots(fixed, r, -1, requirement, 0, index, wildcardExclusions);
+                choices.add(null);
+            }
+        }
+
+        // The deadline is checked between choices, so the first matching always completes
+        Matching best = null;
+        int[] choice = new int[requirements.size()];
+        boolean exhausted = false;
+        while (true) {
+            List<Slot> slots = new ArrayList<>(fixed);
+            for (int r = 0; r < requirements.size(); r++) {
+                if (choices.get(r) == null) continue;
+                Requirement requirement = requirements.get(r);
+                if (!requirement.isSeq()) {
+                    addSlots(slots, r, -1, requirement, choices.get(r)[choice[r]][0], index, wildcardExclusions);
+                    continue;
+                }
+                for (int sequence : choices.get(r)[choice[r]]) {
+                    addSlots(slots, r, sequence, requirement.getSequences().get(sequence), 0, index,
+                        wildcardExclusions);
+                }
+            }
+
+            Matching matching = match(slots, requirements.size(), index.size());
+            if (best == null || isBetter(matching, best)) {
+                best = matching;
+            }
+            if (best.filled() == best.slots().size() || System.nanoTime() > deadline) break;
+            if (!next(choice, choices)) {
+                exhausted = true;
+                break;
+            }
+        }
+        return new Assignment(requirements, best, exhausted || best.filled() == best.slots().size());
+    }
+
+    /**
+     * Adds the slots of a requirement, or of one sequence of a sequence requirement.
+     *
+     * The level thresholds count nested courses, e.g. five courses numbered 110 or above of which four are
+     * numbered 300 or above, so each threshold adds the slots the higher ones have not. Course types add
+     * slots of their own while the requirement has slots to spare, and are otherwise asked of the slots of
+     * one threshold, e.g. one of the four courses numbered 300 or above, or the fifth course, must also be a
+     * WAC-R. The rest accept any candidate.
+     *
+     * @param slots the slots to add to
+     * @param requirement the index of the requirement in the concentration
+     * @param sequence the index of the sequence within the requirement, or -1 if it is not a sequence
+     * @param source the requirement or sequence
+     * @param threshold which threshold's slots, from the highest, also ask for the course types without
+     *                  slots of their own
+     * @param index the student's courses
+     * @param wildcardExclusions the course numbers that wildcard course groups never match
+     */
+    private static void addSlots(List<Slot> slots, int requirement, int sequence, Requirement source, int threshold,
+            TranscriptIndex index, Set<String> wildcardExclusions) {
+        int needed = source.getNumNeeded();
+        int[] candidates = candidates(source, sequence < 0, index, wildcardExclusions);
+
+        int[] minimumNumbers = minimumNumbers(source);
+        int leveled = 0;
+        while (leveled < needed && minimumNumbers[leveled] >= 0) {
+            leveled++;
+        }
+        // The merged course types start at the first slot of the chosen threshold and wrap around
+        int first = 0;
+        for (int t = 0; t < threshold; t++) {
+            int current = minimumNumbers[first];
+            while (first < leveled && minimumNumbers[first] == current) {
+                first++;
+            }
+        }
+        long[] masks = new long[needed];
+        int typed = leveled;
+        int merged = 0;
+        for (Requirement.AttributeConstraint attribute : source.getAttributeConstraints()) {
+            for (int i = 0; i < attribute.count(); i++) {
+                if (typed < needed) {
+                    masks[typed++] = attribute.mask();
+                } else if (merged < leveled) {
+                    masks[(first + merged++) % leveled] |= attribute.mask();
+                }
+            }
+        }
+
+        for (int s = 0; s < needed; s++) {
+            slots.add(new Slot(requirement, sequence, eligible(candidates, minimumNumbers[s], masks[s], index)));
+        }
+    }
+
+    /**
+     * Returns the level threshold of each slot of a requirement, highest first.
+     *
+     * @param source the requirement or sequence
+     * @return the lowest course number each slot accepts, -1 for the slots without a threshold
+     */
+    private static int[] minimumNumbers(Requirement source) {
+        int needed = source.getNumNeeded();
+        List<Requirement.LevelConstraint> levels = new ArrayList<>(source.getLevelConstraints());
+        levels.sort(Comparator.comparingInt(Requirement.LevelConstraint::minimumNumber).reversed());
+        int[] minimumNumbers = new int[needed];
+        Arrays.fill(minimumNumbers, -1);
+        int leveled = 0;
+        for (Requirement.LevelConstraint level : levels) {
+            for (; leveled < Math.min(level.count(), needed); leveled++) {
+                minimumNumbers[leveled] = level.minimumNumber();
+            }
+        }
+        return minimumNumbers;
+    }
+
+    /**
+     * Returns how many level thresholds the course types of a requirement could share slots with: none if
+     * every course type has slots of its own, otherwise the number of distinct thresholds.
+     *
+     * @param source the requirement
+     * @return the number of thresholds to try
+     */
+    private static int mergedThresholds(Requirement source) {
+        int[] minimumNumbers = minimumNumbers(source);
+        int leveled = 0;
+        int thresholds = 0;
+        while (leveled < minimumNumbers.length && minimumNumbers[leveled] >= 0) {
+            if (leveled == 0 || minimumNumbers[leveled] != minimumNumbers[leveled - 1]) {
+                thresholds++;
+            }
+            leveled++;
+        }
+        int typed = 0;
+        for (Requirement.AttributeConstraint attribute : source.getAttributeConstraints()) {
+            typed += attribute.count();
+        }
+        return leveled + typed > minimumNumbers.length ? thresholds : 0;
+    }
+
+    /**
+     * Returns the courses that match a requirement's course groups and minimum grade. Courses withdrawn from
+     * only count towards sequences with no minimum grade, as in the greedy audit.
+     *
+     * @param source the requirement or sequence
+     * @param withdrawnExcluded whether courses withdrawn from never count
+     * @param index the student's courses
+     * @param wildcardExclusions the course numbers that wildcard course groups never match
+     * @return the positions of the candidate courses, in transcript order
+     */
+    private static int[] candidates(Requirement source, boolean withdrawnExcluded, TranscriptIndex index,
+            Set<String> wildcardExclusions) {
+        BitSet matches = new BitSet(index.size());
+        for (String group : source.getCourseGroups()) {
+            boolean wildcard = group.contains("XXX");
+            int[] positions = wildcard ? index.department(TranscriptIndex.department(group), -1) : index.code(group);
+            for (int position : positions) {
+                if (wildcard && wildcardExclusions.contains(index.number(position))) continue;
+                Course course = index.get(position);
+                if (course.getGradePoints() >= source.getMinimumGradePoints()
+                        && !(withdrawnExcluded && course.getGrade().equals("W"))) {
+                    matches.set(position);
+                }
+            }
+        }
+        return matches.stream().toArray();
+    }
+
+    /**
+     * Narrows a requirement's candidates to those a slot accepts.
+     *
+     * @param candidates the requirement's candidate courses
+     * @param minimumNumber the lowest course number the slot accepts, or -1 for any
+     * @param mask the course types the slot asks for one of, or 0 for any
+     * @param index the student's courses
+     * @return the positions of the courses the slot accepts
+     */
+    private static int[] eligible(int[] candidates, int minimumNumber, long mask, TranscriptIndex index) {
+        if (minimumNumber < 0 && mask == 0) {
+            return candidates;
+        }
+        int[] eligible = new int[candidates.length];
+        int count = 0;
+        for (int position : candidates) {
+            Course course = index.get(position);
+            if (course.getNumber() >= minimumNumber && (mask == 0 || course.hasAnyAttribute(mask))) {
+                eligible[count++] = position;
+            }
+        }
+        return Arrays.copyOf(eligible, count);
+    }
+
+    /**
+     * Returns whether one matching reports more progress than another: more requirements completed, then
+     * more slots filled, then fewer slots left empty.
+     *
+     * @param matching the matching
+     * @param best the best matching found so far
+     * @return true if the matching is better
+     */
+    private static boolean isBetter(Matching matching, Matching best) {
+        if (matching.completed() != best.completed()) {
+            return matching.completed() > best.completed();
+        }
+        if (matching.filled() != best.filled()) {
+            return matching.filled() > best.filled();
+        }
+        return matching.slots().size() - matching.filled() < best.slots().size() - best.filled();
+    }
+
+    /**
+     * Finds a maximum matching of slots to courses, filling the slots with the fewest eligible courses first
+     * and reassigning courses along augmenting paths when a later slot needs one already taken.
+     *
+     * @param slots the slots to fill
+     * @param requirements the number of requirements in the concentration
+     * @param courses the number of courses on the transcript
+     * @return the matching
+     */
+    private static Matching match(List<Slot> slots, int requirements, int courses) {
+        List<Slot> ordered = new ArrayList<>(slots);
+        // Equally constrained slots are filled in sheet order, so ties go the way the greedy audit goes
+        ordered.sort(Comparator.comparingInt((Slot slot) -> slot.eligible().length).thenComparingInt(Slot::requirement));
+
+        int[] owner = new int[courses];
+        Arrays.fill(owner, -1);
+        int[] visited = new int[courses];
+        int filled = 0;
+        for (int s = 0; s < ordered.size(); s++) {
+            if (augment(s, ordered, owner, visited, s + 1)) {
+                filled++;
+            }
+        }
+
+        // A requirement is complete when every one of its slots is filled
+        boolean[] slotFilled = new boolean[ordered.size()];
+        for (int slot : owner) {
+            if (slot >= 0) {
+                slotFilled[slot] = true;
+            }
+        }
+        boolean[] incomplete = new boolean[requirements];
+        for (int s = 0; s < ordered.size(); s++) {
+            if (!slotFilled[s]) {
+                incomplete[ordered.get(s).requirement()] = true;
+            }
+        }
+        int completed = 0;
+        for (boolean missing : incomplete) {
+            if (!missing) {
+                completed++;
+            }
+        }
+        return new Matching(ordered, owner, filled, completed);
+    }
+
+    /**
+     * Looks for an augmenting path from a slot, giving it a free course or one whose slot can take another.
+     *
+     * @param slot the index of the slot in the ordered slots
+     * @param slots the slots, most constrained first
+     * @param owner the slot holding each course, or -1 if it is free
+     * @param visited the search that last visited each course
+     * @param search the number of the current search
+     * @return true if the slot was filled
+     */
+    private static boolean augment(int slot, List<Slot> slots, int[] owner, int[] visited, int search) {
+        for (int position : slots.get(slot).eligible()) {
+            if (visited[position] == search) continue;
+            visited[position] = search;
+            if (owner[position] < 0 || augment(owner[position], slots, owner, visited, search)) {
+                owner[position] = slot;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists every way of choosing the sequences of a sequence requirement.
+     *
+     * @param sequences the number of sequences to choose from
+     * @param needed the number of sequences to choose
+     * @return each choice, as the indexes of the sequences chosen
+     */
+    private static int[][] sequenceChoices(int sequences, int needed) {
+        List<int[]> choices = new ArrayList<>();
+        int[] choice = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            choice[i] = i;
+        }
+        while (true) {
+            choices.add(choice.clone());
+            int i = needed - 1;
+            while (i >= 0 && choice[i] == sequences - needed + i) {
+                i--;
+            }
+            if (i < 0) break;
+            choice[i]++;
+            for (int j = i + 1; j < needed; j++) {
+                choice[j] = choice[j - 1] + 1;
+            }
+        }
+        return choices.toArray(new int[0][]);
+    }
+
+    /**
+     * Advances to the next combination of sequence choices.
+     *
+     * @param choice the choice made for each requirement, advanced in place
+     * @param choices the choices of each sequence requirement, or null for other requirements
+     * @return false once every combination has been tried
+     */
+    private static boolean next(int[] choice, List<int[][]> choices) {
+        for (int r = choice.length - 1; r >= 0; r--) {
+            if (choices.get(r) == null) continue;
+            if (++choice[r] < choices.get(r).length) {
+                return true;
+            }
+            choice[r] = 0;
+        }
+        return false;
+    }
+
+    /**
+     * One course a requirement or sequence needs.
+     *
+     * @param requirement the index of the requirement in the concentration
+     * @param sequence the index of the sequence within the requirement, or -1 if it is not a sequence
+     * @param eligible the positions of the courses that can fill the slot, in transcript order
+     */
+    private record Slot(int requirement, int sequence, int[] eligible) {
+    }
+
+    /**
+     * A matching of slots to courses.
+     *
+     * @param slots the slots, most constrained first
+     * @param owner the index of the slot holding each course, or -1 if it is unused
+     * @param filled the number of slots filled
+     * @param completed the number of requirements with every slot filled
+     */
+    private record Matching(List<Slot> slots, int[] owner, int filled, int completed) {
+    }
+
+    /**
+     * The courses assigned to each requirement of a concentration.
+     */
+    static final class Assignment {
+
+        /**
+         * The positions of the courses assigned to each requirement, or to each sequence of a sequence
+         * requirement, in transcript order.
+         */
+        private final int[][][] courses;
+
+        /**
+         * Whether the search finished within the time budget.
+         */
+        private final boolean optimal;
+
+        /**
+         * Collects the courses a matching assigned to each requirement.
+         *
+         * @param requirements the requirements of the concentration
+         * @param matching the matching
+         * @param optimal whether the search finished within the time budget
+         */
+        private Assignment(List<Requirement> requirements, Matching matching, boolean optimal) {
+            this.optimal = optimal;
+            this.courses = new int[requirements.size()][][];
+            int[][] counts = new int[requirements.size()][];
+            for (int r = 0; r < requirements.size(); r++) {
+                Requirement requirement = requirements.get(r);
+                counts[r] = new int[requirement.isSeq() ? requirement.getSequences().size() : 1];
+            }
+            for (int position = 0; position < matching.owner().length; position++) {
+                if (matching.owner()[position] < 0) continue;
+                Slot slot = matching.slots().get(matching.owner()[position]);
+                counts[slot.requirement()][Math.max(slot.sequence(), 0)]++;
+            }
+            for (int r = 0; r < requirements.size(); r++) {
+                courses[r] = new int[counts[r].length][];
+                for (int s = 0; s < counts[r].length; s++) {
+                    courses[r][s] = new int[counts[r][s]];
+                    counts[r][s] = 0;
+                }
+            }
+            // Positions are visited in ascending order, so each list is in transcript order
+            for (int position = 0; position < matching.owner().length; position++) {
+                if (matching.owner()[position] < 0) continue;
+                Slot slot = matching.slots().get(matching.owner()[position]);
+                int s = Math.max(slot.sequence(), 0);
+                courses[slot.requirement()][s][counts[slot.requirement()][s]++] = position;
+            }
+        }
+
+        /**
+         * Returns the courses assigned to a requirement that is not based on sequences.
+         *
+         * @param requirement the index of the requirement in the concentration
+         * @return the positions of the courses, in transcript order
+         */
+        int[] courses(int requirement) {
+            return courses[requirement][0];
+        }
+
+        /**
+         * Returns the courses assigned to one sequence of a sequence requirement.
+         *
+         * @param requirement the index of the requirement in the concentration
+         * @param sequence the index of the sequence within the requirement
+         * @return the positions of the courses, in transcript order, empty if the sequence was not chosen
+         */
+        int[] courses(int requirement, int sequence) {
+            return courses[requirement][sequence];
+        }
+
+        /**
+         * Returns whether the search finished within the time budget, so no assignment fills more slots.
+         *
+         * @return false if the time budget ran out first
+         */
+        boolean isOptimal() {
+            return optimal;
+        }
+    }
+}
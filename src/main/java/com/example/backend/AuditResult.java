@@ -0,0 +1,397 @@
+package com.example.backend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The result of auditing a student against their majors and minors: for each requirement, its status, the
+ * courses fulfilling it and what is still needed. The audit only fills in the result; the progress text
+ * advisors read is rendered from it by {@link #toText()} when asked for, so callers that want the result
+ * itself, such as the JSON progress endpoint and bulk audits, never pay for formatting.
+ *
+ * @param gradYr the graduation year
+ * @param majors the progress in each major, in the order selected
+ * @param minors the progress in each minor, in the order selected
+ */
+public record AuditResult(int gradYr, List<ConcentrationResult> majors, List<ConcentrationResult> minors) {
+
+    /**
+     * The indentation of the items listed under a requirement.
+     */
+    private static final String ITEM = "\n                    * ";
+
+    /**
+     * How far a requirement is from being fulfilled.
+     */
+    public enum Status {
+        COMPLETED, PARTIALLY_COMPLETED, NOT_COMPLETED;
+
+        /**
+         * Returns the status of a requirement from how much of it is done.
+         *
+         * @param fulfilled the number of courses or sequences fulfilling the requirement
+         * @param needed the number needed
+         * @return the status
+         */
+        static Status of(int fulfilled, int needed) {
+            if (fulfilled >= needed) {
+                return COMPLETED;
+            }
+            return fulfilled > 0 ? PARTIALLY_COMPLETED : NOT_COMPLETED;
+        }
+    }
+
+    /**
+     * The progress in one major or minor.
+     *
+     * @param name the name of the concentration
+     * @param minor whether the concentration is a minor
+     * @param requirements the progress on each requirement, in sheet order
+     */
+    public record ConcentrationResult(String name, boolean minor, List<RequirementResult> requirements) {
+
+        /**
+         * Renders the progress on each requirement as text.
+         *
+         * @return the text, one block per requirement
+         */
+        public String toText() {
+            StringBuilder result = new StringBuilder();
+            for (RequirementResult requirement : requirements) {
+                requirement.appendTo(result);
+            }
+            return result.toString();
+        }
+    }
+
+    /**
+     * The progress on a requirement.
+     *
+     * @param id identifies the requirement within the audit, e.g. "major/computer-science/electives"
+     * @param title the title of the requirement
+     * @param status how far the requirement is from being fulfilled
+     * @param needed the number of courses, or of sequences for a sequence requirement, needed
+     * @param fulfilled the number of courses, or of sequences, fulfilling the requirement
+     * @param remaining the number of courses, or of sequences, still needed
+     * @param fulfilledBy the codes of the courses fulfilling the requirement, in the order they were used;
+     *                    for a sequence requirement, those of the completed sequences
+     * @param remainingCourses the course groups a requirement without sequences can still be fulfilled by,
+     *                         empty for a sequence requirement
+     * @param sequences the progress on each sequence of a sequence requirement, empty for other requirements
+     * @param levels the level thresholds of the requirement and how many courses each still needs
+     * @param types the course types of the requirement and how many courses each still needs
+     * @param minimumGrade the minimum grade each course needs, or an empty string if there is none
+     */
+    public record RequirementResult(String id, String title, Status status, int needed, int fulfilled, int remaining,
+            List<String> fulfilledBy, List<String> remainingCourses, List<SequenceResult> sequences,
+            List<LevelResult> levels, List<TypeResult> types, String minimumGrade) {
+
+        /**
+         * Returns the progress on a requirement that is not based on sequences.
+         *
+         * @param id identifies the requirement within the audit
+         * @param requirement the requirement
+         * @param fulfilledBy the codes of the courses fulfilling the requirement, in the order they were used
+         * @param remainingCourses the course groups the requirement can still be fulfilled by
+         * @param levelCounts the count still needed of each level threshold, parallel to the requirement's
+         * @param attributeCounts the count still needed of each course type, parallel to the requirement's
+         * @return the progress
+         */
+        static RequirementResult ofCourses(String id, Requirement requirement, List<String> fulfilledBy,
+                List<String> remainingCourses, int[] levelCounts, int[] attributeCounts) {
+            List<LevelResult> levels = new ArrayList<>(levelCounts.length);
+            for (int i = 0; i < levelCounts.length; i++) {
+                Requirement.LevelConstraint level = requirement.getLevelConstraints().get(i);
+                levels.add(new LevelResult(level.minimumNumber(), level.count(), levelCounts[i]));
+            }
+            List<TypeResult> types = new ArrayList<>(attributeCounts.length);
+            for (int i = 0; i < attributeCounts.length; i++) {
+                Requirement.AttributeConstraint attribute = requirement.getAttributeConstraints().get(i);
+                types.add(new TypeResult(attribute.codes(), attribute.count(), attributeCounts[i]));
+            }
+            int needed = requirement.getNumNeeded();
+            int fulfilled = fulfilledBy.size();
+            return new RequirementResult(id, requirement.getTitle(), Status.of(fulfilled, needed), needed, fulfilled,
+                Math.max(needed - fulfilled, 0), List.copyOf(fulfilledBy), List.copyOf(remainingCourses), List.of(),
+                levels, types, requirement.getGradeRequirement());
+        }
+
+        /**
+         * Returns the progress on a requirement made up of sequences.
+         *
+         * @param id identifies the requirement within the audit
+         * @param requirement the requirement
+         * @param sequences the progress on each of its sequences, in sheet order
+         * @return the progress
+         */
+        static RequirementResult ofSequences(String id, Requirement requirement, List<SequenceResult> sequences) {
+            List<String> fulfilledBy = new ArrayList<>();
+            int fulfilled = 0;
+            for (SequenceResult sequence : sequences) {
+                if (sequence.completed() && fulfilled < requirement.getNumNeeded()) {
+                    fulfilledBy.addAll(sequence.fulfilledBy());
+                    fulfilled++;
+                }
+            }
+            int needed = requirement.getNumNeeded();
+            return new RequirementResult(id, requirement.getTitle(), Status.of(fulfilled, needed), needed, fulfilled,
+                Math.max(needed - fulfilled, 0), fulfilledBy, List.of(), List.copyOf(sequences), List.of(), List.of(),
+                requirement.getGradeRequirement());
+        }
+
+        /**
+         * Returns whether the requirement is made up of sequences.
+         *
+         * @return true for a sequence requirement
+         */
+        public boolean sequence() {
+            return !sequences.isEmpty();
+        }
+
+        /**
+         * Renders the progress on the requirement as text.
+         *
+         * @return the text, ending with a blank line
+         */
+        public String toText() {
+            StringBuilder result = new StringBuilder();
+            appendTo(result);
+            return result.toString();
+        }
+
+        /**
+         * Appends the progress on the requirement as text.
+         *
+         * @param result the text to append to
+         */
+        private void appendTo(StringBuilder result) {
+            if (sequence()) {
+                appendSequenceProgress(result);
+            } else {
+                appendCourseProgress(result);
+            }
+            result.append("\n");
+        }
+
+        /**
+         * Appends the progress on a requirement made up of sequences.
+         *
+         * @param result the text to append to
+         */
+        private void appendSequenceProgress(StringBuilder result) {
+            if (status == Status.COMPLETED) {
+                result.append("[X] " + title + " (Completed)\n");
+                String fulfilledStr = sequences.stream()
+                        .sorted((a, b) -> Double.compare(
+                                (double) b.fulfilledBy().size() / b.courseGroups().size(),
+                                (double) a.fulfilledBy().size() / a.courseGroups().size()))
+                        .limit(needed)
+                        .map(seq -> String.join(", ", seq.fulfilledBy()))
+                        .collect(Collectors.joining("; "));
+                result.append("   Fulfilled by: " + fulfilledStr + "\n");
+                return;
+            }
+            if (status == Status.PARTIALLY_COMPLETED) {
+                result.append("[~] " + title + " (Partially Completed)\n");
+                String completedSequences = sequences.stream()
+                        .filter(SequenceResult::completed)
+                        .map(seq -> "(" + String.join(", ", seq.fulfilledBy()) + ")")
+                        .collect(Collectors.joining("; "));
+                result.append("   Sequences Completed: " + completedSequences + "\n");
+            } else {
+                result.append("[ ] " + title + " (Not Completed)\n");
+            }
+            String sequencesLeftStr = sequences.stream()
+                    .filter(seq -> !seq.completed())
+                    .map(seq -> ITEM + "(" + String.join(", ", seq.courseGroups()) + ")")
+                    .collect(Collectors.joining(""));
+            result.append("   Sequences Left: " + remaining + " of: " + sequencesLeftStr);
+            result.append(gradeRequirementSuffix() + "\n");
+        }
+
+        /**
+         * Appends the progress on a requirement that is not based on sequences.
+         *
+         * @param result the text to append to
+         */
+        private void appendCourseProgress(StringBuilder result) {
+            if (status == Status.COMPLETED) {
+                result.append("[X] " + title + " (Completed)\n");
+                result.append("   Fulfilled by: " + String.join(", ", fulfilledBy) + "\n");
+                return;
+            }
+            if (status == Status.PARTIALLY_COMPLETED) {
+                result.append("[~] " + title + " (Partially Completed)\n");
+                result.append("   Completed: " + String.join(", ", fulfilledBy) + "\n");
+            } else {
+                result.append("[ ] " + title + " (Not Completed)\n");
+            }
+            if (remainingCourses.get(0).contains("XXX")) {
+                result.append("   Still Needed: " + remaining + " of " + String.join("or ", remainingCourses));
+            } else if (needed == remainingCourses.size()) {
+                result.append("   Still Needed: " + " All of: " + ITEM + String.join(ITEM, remainingCourses));
+            } else {
+                result.append("   Still Needed: " + remaining + " of: " + ITEM + String.join(ITEM, remainingCourses));
+            }
+            appendConstraints(result);
+            result.append(gradeRequirementSuffix() + "\n");
+        }
+
+        /**
+         * Appends the level thresholds and course types still needed. WAC and WAC-R courses are listed with
+         * the thresholds of 300 and above, since writing-intensive courses are upper-level.
+         *
+         * @param result the text to append to
+         */
+        private void appendConstraints(StringBuilder result) {
+            if (levels.isEmpty() && types.isEmpty()) {
+                return;
+            }
+            result.append(" consisting of:");
+
+            // First, check for special type requirements (WAC or WAC-R).
+            int specialCount = 0;
+            ArrayList<String> specialTypes = new ArrayList<>();
+            boolean[] special = new boolean[types.size()];
+            for (int i = 0; i < special.length; i++) {
+                String type = types.get(i).types();
+                if (type.equals("WAC") || type.equals("WAC-R")) {
+                    specialCount += types.get(i).remaining();
+                    if (!specialTypes.contains(type)) {
+                        specialTypes.add(type);
+                    }
+                    special[i] = true;
+                }
+            }
+            String specialTypeStr = String.join(" or ", specialTypes);
+
+            if (!levels.isEmpty()) {
+                StringBuilder sb = new StringBuilder("\n");
+                for (int i = 0; i < levels.size(); i++) {
+                    int threshold = levels.get(i).minimumNumber();
+                    int count = levels.get(i).remaining();
+                    if (i < levels.size() - 1) {
+                        count -= levels.get(i + 1).remaining();
+                    }
+                    if (count > 0) {
+                        if (threshold >= 300 && specialCount > 0) {
+                            int generalOnlyCount = count - specialCount;
+                            if (generalOnlyCount > 0) {
+                                sb.append("                    * ").append(generalOnlyCount)
+                                  .append(" course(s) numbered >=").append(threshold).append("\n");
+                            }
+                            sb.append("                    * ").append(specialCount)
+                              .append(" course(s) numbered >=").append(threshold)
+                              .append(" and is also a ").append(specialTypeStr).append("\n");
+                        } else {
+                            sb.append("                    * ").append(count)
+                              .append(" course(s) numbered >=").append(threshold).append("\n");
+                        }
+                    }
+                }
+                if (sb.length() > " consisting of:".length()) {
+                    sb.setLength(sb.length() - 1);
+                    result.append(sb);
+                }
+            }
+
+            if (!types.isEmpty()) {
+                StringBuilder sb = new StringBuilder("\n");
+                for (int i = 0; i < types.size(); i++) {
+                    if (!special[i] && types.get(i).remaining() > 0) {
+                        sb.append("                    * ").append(types.get(i).remaining())
+                          .append(" course(s) must be typed ").append(types.get(i).types()).append(", ");
+                    }
+                }
+                if (sb.length() > 1) {
+                    sb.setLength(sb.length() - 2);
+                    result.append(sb);
+                }
+            }
+        }
+
+        /**
+         * Returns the line to append when the requirement has a minimum grade.
+         *
+         * @return the minimum grade line, or an empty string if there is none
+         */
+        private String gradeRequirementSuffix() {
+            if (minimumGrade.equals("")) {
+                return "";
+            }
+            return "\n                 with a minimum grade of " + minimumGrade;
+        }
+    }
+
+    /**
+     * The progress on one sequence of a sequence requirement.
+     *
+     * @param courseGroups the courses the sequence needs, in order
+     * @param fulfilledBy the codes of the courses fulfilling the sequence, in the sequence's order
+     */
+    public record SequenceResult(List<String> courseGroups, List<String> fulfilledBy) {
+
+        /**
+         * Constructs the progress on a sequence, copying its courses.
+         */
+        public SequenceResult {
+            courseGroups = List.copyOf(courseGroups);
+            fulfilledBy = List.copyOf(fulfilledBy);
+        }
+
+        /**
+         * Returns whether every course of the sequence has been taken.
+         *
+         * @return true if the sequence is complete
+         */
+        public boolean completed() {
+            return fulfilledBy.size() >= courseGroups.size();
+        }
+    }
+
+    /**
+     * A level threshold of a requirement and how many courses it still needs.
+     *
+     * @param minimumNumber the lowest qualifying course number
+     * @param required the number of courses that must meet the threshold
+     * @param remaining the number of those still needed
+     */
+    public record LevelResult(int minimumNumber, int required, int remaining) {
+    }
+
+    /**
+     * A course type of a requirement and how many courses it still needs.
+     *
+     * @param types the course types as written, e.g. "WAC-R"
+     * @param required the number of courses that must carry one of the types
+     * @param remaining the number of those still needed
+     */
+    public record TypeResult(String types, int required, int remaining) {
+    }
+
+    /**
+     * Renders the progress in every major and minor as the text advisors read.
+     *
+     * @return the progress text
+     */
+    public String toText() {
+        StringBuilder progress = new StringBuilder();
+        progress.append("\n======== Student Progress ========\n");
+        progress.append("Graduation Year: ").append(gradYr).append("\n");
+        progress.append("==================================\n\n");
+        for (ConcentrationResult major : majors) {
+            progress.append("Major: ").append(major.name()).append("\n");
+            for (RequirementResult requirement : major.requirements()) {
+                requirement.appendTo(progress);
+            }
+        }
+        for (ConcentrationResult minor : minors) {
+            progress.append("Minor: ").append(minor.name()).append("\n");
+            for (RequirementResult requirement : minor.requirements()) {
+                requirement.appendTo(progress);
+            }
+        }
+        return progress.toString();
+    }
+}
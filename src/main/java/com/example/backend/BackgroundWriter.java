@@ -0,0 +1,107 @@
+package com.example.backend;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The BackgroundWriter class runs file writes on a single background thread with a bounded queue,
+ * so callers never wait on disk. When the queue is full, new writes are dropped and logged rather
+ * than blocking the caller.
+ */
+public class BackgroundWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundWriter.class);
+
+    /**
+     * How long to wait for queued writes to finish when closing.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /**
+     * A write to be run in the background.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    /**
+     * The name of the writer, used for its thread and in log messages.
+     */
+    private final String name;
+
+    /**
+     * The single-threaded executor that runs the queued writes.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructs a BackgroundWriter with a bounded queue.
+     *
+     * @param name the name of the writer
+     * @param queueCapacity the maximum number of writes waiting to run
+     */
+    public BackgroundWriter(String name, int queueCapacity) {
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Queues a write without waiting for it to run.
+     *
+     * @param description a description of the write for log messages
+     * @param write the write to run
+     * @return true if the write was queued, false if the queue was full
+     */
+    public boolean submit(String description, Write write) {
+        try {
+            executor.execute(() -> {
+                try {
+                    write.run();
+                } catch (IOException | RuntimeException e) {
+                    log.warn("{}: failed to write {}", name, description, e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("{}: queue full, dropping write of {}", name, description);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of writes waiting to run.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting writes and waits briefly for queued writes to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("{}: {} queued writes abandoned at shutdown", name, executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
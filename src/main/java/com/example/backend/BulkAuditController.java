@@ -0,0 +1,75 @@
+package com.example.backend;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for auditing many transcripts in one request, such as a whole cohort at the start of a term.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class BulkAuditController {
+
+    /**
+     * The media type of the results, one JSON object per line.
+     */
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /**
+     * Parses and audits the transcripts.
+     */
+    private final BulkAuditService bulkAuditService;
+
+    /**
+     * Reads the selection manifest.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * Constructs the controller.
+     *
+     * @param bulkAuditService the service auditing the transcripts
+     * @param mapper the mapper the selection manifest is read with
+     */
+    public BulkAuditController(BulkAuditService bulkAuditService, ObjectMapper mapper) {
+        this.bulkAuditService = bulkAuditService;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Audits every transcript PDF in a ZIP archive against the selections in a manifest, streaming one line
+     * of JSON per transcript as each finishes. See {@link BulkManifest} for the manifest format.
+     *
+     * @param archive the ZIP archive of transcript PDFs
+     * @param manifest the selection manifest JSON, or none to audit against no concentrations
+     * @return the streamed results, or 400 if the manifest is not valid JSON or lists an invalid AP exam
+     */
+    @PostMapping("/bulk-audit")
+    public ResponseEntity<StreamingResponseBody> bulkAudit(@RequestParam("archive") MultipartFile archive,
+            @RequestParam(value = "manifest", required = false) String manifest) {
+        BulkManifest selections;
+        try {
+            selections = BulkManifest.parse(manifest, mapper);
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest()
+                .body(out -> out.write(("Invalid manifest: " + e.getOriginalMessage()).getBytes()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(out -> out.write(("Invalid manifest: " + e.getMessage()).getBytes()));
+        }
+
+        StreamingResponseBody body = out -> {
+            try (InputStream in = archive.getInputStream()) {
+                bulkAuditService.audit(in, selections, out);
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
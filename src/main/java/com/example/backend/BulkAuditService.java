@@ -0,0 +1,331 @@
+package com.example.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Audits a whole archive of transcripts at once. PDFs are read from the ZIP one entry at a time and
+ * parsed and audited in parallel, and each result is written as a line of JSON as soon as it is ready.
+ *
+ * At most {@code bulk.audit.max-in-flight} transcripts are held in memory at any time across all bulk
+ * audits; reading the archive pauses until a worker finishes, so memory use does not grow with the
+ * size of the archive.
+ */
+@Service
+public class BulkAuditService {
+
+    /**
+     * The pool the transcripts are parsed and audited on.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Limits the transcripts read from archives but not yet written out.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * The mapper the result lines are written with.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The memory budget and size limits transcripts are loaded with.
+     */
+    private final TranscriptLoadLimits limits;
+
+    /**
+     * The stage metrics parses and audits are recorded to.
+     */
+    private final TranscriptMetrics metrics;
+
+    /**
+     * Holds the current snapshot of the requirement catalog.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * Constructs the bulk audit service from configuration.
+     *
+     * @param threads the number of transcripts audited at once, or 0 for one per processor
+     * @param maxInFlight the maximum number of transcripts held in memory, or 0 for twice the threads
+     * @param mapper the mapper the result lines are written with
+     * @param limits the memory budget and size limits transcripts are loaded with
+     * @param metrics the stage metrics parses and audits are recorded to
+     * @param catalogService the service holding the current catalog snapshot
+     */
+    public BulkAuditService(
+            @Value("${bulk.audit.threads:0}") int threads,
+            @Value("${bulk.audit.max-in-flight:0}") int maxInFlight,
+            ObjectMapper mapper,
+            TranscriptLoadLimits limits,
+            TranscriptMetrics metrics,
+            CatalogService catalogService) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-audit-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inFlight = new Semaphore(maxInFlight > 0 ? maxInFlight : poolSize * 2);
+        this.mapper = mapper;
+        this.limits = limits;
+        this.metrics = metrics;
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Audits every PDF in a ZIP archive, writing one line of JSON per transcript to the output as each finishes.
+     * Lines are written in completion order, not archive order; entries that are not PDFs are skipped.
+     * Every transcript is audited against the catalog snapshot current when the audit started.
+     *
+     * @param archive the ZIP archive of transcript PDFs
+     * @param manifest the selections to audit each transcript against
+     * @param out the stream the results are written to
+     * @throws IOException if the archive cannot be read or the results cannot be written
+     */
+    public void audit(InputStream archive, BulkManifest manifest, OutputStream out) throws IOException {
+        RequirementCatalog catalog = catalogService.current().getCatalog();
+        AtomicReference<IOException> writeFailure = new AtomicReference<>();
+        Phaser pending = new Phaser(1);
+
+        try (ZipInputStream entries = new ZipInputStream(archive)) {
+            ZipEntry entry;
+            while (writeFailure.get() == null && (entry = entries.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entry.getName().toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+                    continue;
+                }
+
+                String name = entry.getName();
+                acquire();
+                byte[] pdf;
+                try {
+                    // Read at most one byte past the limit, so an oversized entry is never fully buffered
+                    pdf = entries.readNBytes((int) Math.min(limits.getMaxBytes() + 1, Integer.MAX_VALUE - 8));
+                } catch (IOException e) {
+                    inFlight.release();
+                    throw e;
+                }
+
+                pending.register();
+                AuditTask task = new AuditTask(pending, writeFailure,
+                    () -> writeLine(out, auditTranscript(name, pdf, manifest.selectionsFor(name), catalog)));
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // The pool has shut down; give back what was taken for the transcript that will never run
+                    inFlight.release();
+                    pending.arriveAndDeregister();
+                    throw new IOException("Bulk audit stopped because the application is shutting down", e);
+                }
+            }
+        } finally {
+            // Never return while workers may still write to the output
+            pending.arriveAndAwaitAdvance();
+        }
+
+        if (writeFailure.get() != null) {
+            throw writeFailure.get();
+        }
+    }
+
+    /**
+     * Parses and audits one transcript, adding the courses its AP exams stand in for. Failures are
+     * reported in the result rather than thrown, so one bad transcript does not stop the rest of the archive.
+     *
+     * @param name the path of the transcript within the archive
+     * @param pdf the contents of the transcript PDF
+     * @param selections the majors and minors to audit against, and the AP exams taken
+     * @param catalog the requirements of every major and minor, and the AP equivalencies
+     * @return the fields of the result line
+     */
+    private Map<String, Object> auditTranscript(String name, byte[] pdf, BulkManifest.Selections selections,
+            RequirementCatalog catalog) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("file", name);
+        try {
+            ArrayList<Course> courses = PDFParser.parseCourses(pdf, limits, metrics);
+            ArrayList<Course> audited = courses;
+            ApCreditTable.Grant apCredit = null;
+            if (!selections.apExams().isEmpty()) {
+                apCredit = catalog.getApCredits().apply(selections.apExams(), courses);
+                audited = apCredit.addTo(courses);
+            }
+            ArrayList<Concentration> majors = concentrations(catalog, false, selections.majors());
+            ArrayList<Concentration> minors = concentrations(catalog, true, selections.minors());
+            Student student = Driver.generatePlanner(audited, majors, minors);
+
+            result.put("status", "ok");
+            result.put("courses", courses.size());
+            result.put("majors", selections.majors());
+            result.put("minors", selections.minors());
+            if (apCredit != null) {
+                result.put("apCredits", apCredit.awards());
+            }
+            result.put("progress", Driver.audit(student, null, metrics));
+        } catch (Exception e) {
+            result.put("status", "error");
+            result.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the named concentrations, looked up in the requirement catalog.
+     *
+     * @param catalog the requirements of every major and minor
+     * @param minor whether the names are minors rather than majors
+     * @param names the names of the concentrations
+     * @return the concentrations, in the order named
+     */
+    private static ArrayList<Concentration> concentrations(RequirementCatalog catalog, boolean minor, List<String> names) {
+        ArrayList<Concentration> concentrations = new ArrayList<>();
+        for (String name : names) {
+            concentrations.add(new Concentration(minor, name, catalog));
+        }
+        return concentrations;
+    }
+
+    /**
+     * Writes one result as a line of JSON and flushes it to the client.
+     *
+     * @param out the stream to write to
+     * @param result the fields of the result
+     * @throws IOException if the line cannot be written
+     */
+    private void writeLine(OutputStream out, Map<String, Object> result) throws IOException {
+        byte[] line = mapper.writeValueAsBytes(result);
+        synchronized (out) {
+            out.write(line);
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    /**
+     * Waits for room to hold another transcript in memory.
+     *
+     * @throws InterruptedIOException if interrupted while waiting
+     */
+    private void acquire() throws InterruptedIOException {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to read the next transcript");
+        }
+    }
+
+    /**
+     * Stops the audit workers when the application shuts down. Transcripts still queued are abandoned
+     * rather than dropped, so the audits waiting on them fail instead of waiting forever.
+     */
+    @PreDestroy
+    public void close() {
+        for (Runnable queued : executor.shutdownNow()) {
+            if (queued instanceof AuditTask task) {
+                task.abandon();
+            }
+        }
+    }
+
+    /**
+     * Audits one transcript of a bulk audit and writes its result line.
+     */
+    @FunctionalInterface
+    private interface ResultWriter {
+
+        /**
+         * Audits the transcript and writes its result line.
+         *
+         * @throws IOException if the line cannot be written
+         */
+        void write() throws IOException;
+    }
+
+    /**
+     * One queued transcript of a bulk audit. Whether it runs or is abandoned at shutdown, it gives back its
+     * in-flight permit and arrives at its audit's phaser exactly once.
+     */
+    private final class AuditTask implements Runnable {
+
+        /**
+         * The phaser the audit waits on for its transcripts to finish.
+         */
+        private final Phaser pending;
+
+        /**
+         * The first failure writing to the audit's output.
+         */
+        private final AtomicReference<IOException> failure;
+
+        /**
+         * Audits the transcript and writes its result.
+         */
+        private final ResultWriter writer;
+
+        /**
+         * Constructs a task registered with its audit's phaser.
+         *
+         * @param pending the phaser the audit waits on
+         * @param failure the first failure writing to the audit's output
+         * @param writer audits the transcript and writes its result
+         */
+        private AuditTask(Phaser pending, AtomicReference<IOException> failure, ResultWriter writer) {
+            this.pending = pending;
+            this.failure = failure;
+            this.writer = writer;
+        }
+
+        /**
+         * Audits the transcript and writes its result, recording a write failure for the audit to throw.
+         */
+        @Override
+        public void run() {
+            try {
+                writer.write();
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                finish();
+            }
+        }
+
+        /**
+         * Gives up on the transcript without auditing it, failing its audit.
+         */
+        private void abandon() {
+            failure.compareAndSet(null, new IOException("Bulk audit stopped because the application is shutting down"));
+            finish();
+        }
+
+        /**
+         * Releases the transcript's in-flight permit and tells its audit it is done.
+         */
+        private void finish() {
+            inFlight.release();
+            pending.arriveAndDeregister();
+        }
+    }
+}
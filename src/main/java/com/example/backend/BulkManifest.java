@@ -0,0 +1,138 @@
+package com.example.backend;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The BulkManifest class holds the major and minor selections for a bulk audit, and the AP exams each
+ * student took. It is read from JSON of the form
+ *
+ * <pre>
+ * {
+ *   "default": { "dropdown1": ["Computer Science"], "dropdown2": ["Mathematics"] },
+ *   "transcripts": {
+ *     "Secrist_Liam.pdf": { "dropdown1": ["Managerial Economics"], "dropdown2": [],
+ *                           "apExams": ["Calculus BC, 5", "Microeconomics, 4"] }
+ *   }
+ * }
+ * </pre>
+ *
+ * using the same {@code dropdown1} (majors), {@code dropdown2} (minors) and {@code apExams} keys as
+ * {@code /api/submit-selections}.
+ * Transcripts without their own entry, matched by path or by file name, use the default selections.
+ */
+public class BulkManifest {
+
+    /**
+     * The key of the selected majors.
+     */
+    private static final String MAJORS_KEY = "dropdown1";
+
+    /**
+     * The key of the selected minors.
+     */
+    private static final String MINORS_KEY = "dropdown2";
+
+    /**
+     * The key of the AP exams taken.
+     */
+    private static final String AP_EXAMS_KEY = "apExams";
+
+    /**
+     * The selections used for transcripts without their own entry.
+     */
+    private final Selections defaults;
+
+    /**
+     * The selections of individual transcripts, keyed by entry path or file name.
+     */
+    private final Map<String, Selections> transcripts;
+
+    /**
+     * Constructs a BulkManifest.
+     *
+     * @param defaults the selections used for transcripts without their own entry
+     * @param transcripts the selections of individual transcripts, keyed by entry path or file name
+     */
+    public BulkManifest(Selections defaults, Map<String, Selections> transcripts) {
+        this.defaults = defaults;
+        this.transcripts = transcripts;
+    }
+
+    /**
+     * Parses a manifest from JSON. A null or blank manifest selects nothing for every transcript.
+     *
+     * @param json the manifest JSON
+     * @param mapper the mapper to read the JSON with
+     * @return the parsed manifest
+     * @throws JsonProcessingException if the manifest is not valid JSON
+     * @throws IllegalArgumentException if an AP exam is not of the form "exam, score"
+     */
+    public static BulkManifest parse(String json, ObjectMapper mapper) throws JsonProcessingException {
+        if (json == null || json.isBlank()) {
+            return new BulkManifest(new Selections(List.of(), List.of(), List.of()), Map.of());
+        }
+
+        JsonNode root = mapper.readTree(json);
+        Map<String, Selections> transcripts = new HashMap<>();
+        root.path("transcripts").fields().forEachRemaining(entry ->
+            transcripts.put(entry.getKey(), readSelections(entry.getValue())));
+
+        return new BulkManifest(readSelections(root.path("default")), transcripts);
+    }
+
+    /**
+     * Returns the selections for a transcript in the archive.
+     *
+     * @param entryName the path of the transcript within the archive
+     * @return the selections for the transcript
+     */
+    public Selections selectionsFor(String entryName) {
+        Selections selections = transcripts.get(entryName);
+        if (selections == null) {
+            selections = transcripts.get(entryName.substring(entryName.lastIndexOf('/') + 1));
+        }
+        return selections != null ? selections : defaults;
+    }
+
+    /**
+     * Reads the majors, minors and AP exams of one selection object, treating missing keys as empty.
+     *
+     * @param node the selection object
+     * @return the selections
+     * @throws IllegalArgumentException if an AP exam is not of the form "exam, score"
+     */
+    private static Selections readSelections(JsonNode node) {
+        return new Selections(readNames(node.path(MAJORS_KEY)), readNames(node.path(MINORS_KEY)),
+            ApCreditTable.Exam.parseAll(readNames(node.path(AP_EXAMS_KEY))));
+    }
+
+    /**
+     * Reads an array of concentration names or AP exams.
+     *
+     * @param node the array node, which may be missing
+     * @return the names in the array
+     */
+    private static List<String> readNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode name : node) {
+            names.add(name.asText());
+        }
+        return names;
+    }
+
+    /**
+     * The majors and minors selected for a transcript, and the AP exams the student took.
+     *
+     * @param majors the names of the selected majors
+     * @param minors the names of the selected minors
+     * @param apExams the AP exams taken
+     */
+    public record Selections(List<String> majors, List<String> minors, List<ApCreditTable.Exam> apExams) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backend;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The CatalogCompiler class compiles the list, requirement, course, AP credit and wildcard exclusion
+ * workbooks into the catalog snapshot.
+ * The build runs it after compiling the classes, writing {@value CatalogSnapshotFormat#RESOURCE} next to
+ * them so the snapshot is packaged with the application, and a workbook that cannot be read fails the
+ * build rather than the server's startup.
+ */
+public final class CatalogCompiler {
+
+    private CatalogCompiler() {
+    }
+
+    /**
+     * Compiles the workbooks on the classpath into a snapshot.
+     *
+     * @param args the directory to write the snapshot to
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: CatalogCompiler <output directory>");
+            System.exit(2);
+        }
+
+        RequirementCatalog catalog = CatalogWorkbooks.load();
+        Path snapshot = Path.of(args[0]).resolve(CatalogSnapshotFormat.RESOURCE);
+        Files.createDirectories(snapshot.getParent());
+        try (OutputStream out = Files.newOutputStream(snapshot)) {
+            CatalogSnapshotFormat.write(catalog, out);
+        }
+
+        System.out.println("Compiled catalog " + catalog.getVersion() + " (" + catalog.getMajorNames().size()
+            + " majors, " + catalog.getMinorNames().size() + " minors, " + catalog.getCourses().size()
+            + " courses, " + catalog.getApCredits().getRules().size() + " AP rules) into " + snapshot
+            + " (" + Files.size(snapshot) + " bytes)");
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.backend;
+
+import java.util.List;
+
+/**
+ * The CatalogCourse class is one course of the course catalog: a code and title, with the general
+ * education areas and credits of its latest offering and every term it was offered in.
+ *
+ * Unlike a {@link Course}, which is a course a student took, a catalog course describes what the
+ * college offers. A code that was offered under several titles, such as a topics course, is one
+ * catalog course per title.
+ */
+public final class CatalogCourse {
+
+    /**
+     * The course code, e.g. "CSC-120".
+     */
+    private final String code;
+
+    /**
+     * The department part of the code, e.g. "CSC".
+     */
+    private final String department;
+
+    /**
+     * The number part of the code, e.g. "120" or "206L".
+     */
+    private final String number;
+
+    /**
+     * The title of the course.
+     */
+    private final String title;
+
+    /**
+     * The general education areas the course counts toward, as of its latest offering.
+     */
+    private final List<String> areas;
+
+    /**
+     * The credits the course is worth, as of its latest offering.
+     */
+    private final double credits;
+
+    /**
+     * The terms the course was offered in, oldest first.
+     */
+    private final List<String> terms;
+
+    /**
+     * Constructs a catalog course.
+     *
+     * @param code the course code, e.g. "CSC-120"
+     * @param title the title of the course
+     * @param areas the general education areas of its latest offering
+     * @param credits the credits of its latest offering
+     * @param terms the terms it was offered in, oldest first
+     */
+    public CatalogCourse(String code, String title, List<String> areas, double credits, List<String> terms) {
+        this.code = code;
+        int dash = code.indexOf('-');
+        this.department = dash < 0 ? code : code.substring(0, dash);
+        this.number = dash < 0 ? "" : code.substring(dash + 1);
+        this.title = title;
+        this.areas = List.copyOf(areas);
+        this.credits = credits;
+        this.terms = List.copyOf(terms);
+    }
+
+    /**
+     * Returns the course code.
+     *
+     * @return the code, e.g. "CSC-120"
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the department part of the code.
+     *
+     * @return the department, e.g. "CSC"
+     */
+    public String getDepartment() {
+        return department;
+    }
+
+    /**
+     * Returns the number part of the code.
+     *
+     * @return the number, e.g. "120" or "206L", or an empty string if the code has none
+     */
+    public String getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the title of the course.
+     *
+     * @return the title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the general education areas the course counts toward.
+     *
+     * @return an unmodifiable list of areas
+     */
+    public List<String> getAreas() {
+        return areas;
+    }
+
+    /**
+     * Returns the credits the course is worth.
+     *
+     * @return the credits
+     */
+    public double getCredits() {
+        return credits;
+    }
+
+    /**
+     * Returns the terms the course was offered in.
+     *
+     * @return an unmodifiable list of terms, oldest first, e.g. "Fall 2023"
+     */
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public String toString() {
+        return code + " " + title;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * The CatalogEndpoint class exposes the active catalog snapshot as the {@code catalog} actuator
+ * endpoint: {@code GET /actuator/catalog} describes it, and {@code POST /actuator/catalog} reloads the
+ * catalog and describes the snapshot installed afterwards.
+ */
+@Component
+@Endpoint(id = "catalog")
+public class CatalogEndpoint {
+
+    /**
+     * The service holding the catalog snapshot.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param catalogService the service holding the catalog snapshot
+     */
+    public CatalogEndpoint(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Describes the active snapshot.
+     *
+     * @return the version, generation, load time, concentration counts and course count of the snapshot
+     */
+    @ReadOperation
+    public Map<String, Object> snapshot() {
+        return describe(catalogService.current());
+    }
+
+    /**
+     * Reloads the catalog, waiting for the reload to finish.
+     *
+     * @return a description of the snapshot installed after the reload
+     */
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return describe(catalogService.reload().join());
+    }
+
+    /**
+     * Describes a snapshot.
+     *
+     * @param snapshot the snapshot
+     * @return the version, generation, load time, concentration counts and course count of the snapshot
+     */
+    private static Map<String, Object> describe(CatalogSnapshot snapshot) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("version", snapshot.getVersion());
+        description.put("generation", snapshot.getGeneration());
+        description.put("loadedAt", snapshot.getLoadedAt().toString());
+        description.put("majors", snapshot.getCatalog().getMajorNames().size());
+        description.put("minors", snapshot.getCatalog().getMinorNames().size());
+        description.put("courses", snapshot.getCatalog().getCourses().size());
+        return description;
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The CatalogService class holds the current {@link CatalogSnapshot} behind an atomic reference, so
+ * readers never take a lock, and rebuilds it in the background when the catalog changes.
+ *
+ * The server starts from the catalog bundled with the application. When {@code catalog.reload.dir} is
+ * set, the list, requirement, course, AP credit and wildcard exclusion workbooks in that directory are
+ * read at startup and again whenever one of them changes, once writes to it have been quiet for
+ * {@code catalog.reload.debounce}; a reload can also be requested through the {@code catalog} actuator
+ * endpoint. A reload that reads the same workbooks keeps the current snapshot, and one that fails keeps
+ * it too, so a half-written export never replaces a good catalog.
+ *
+ * Reload times are published as the {@code catalog.reload} timer, tagged with whether the catalog was
+ * updated, unchanged or failed, and the active snapshot as the {@code catalog.snapshot.generation}
+ * gauge, tagged with its catalog version.
+ */
+@Component
+public class CatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogService.class);
+
+    /**
+     * The name of the reload timer.
+     */
+    static final String RELOAD_TIMER = "catalog.reload";
+
+    /**
+     * The name of the gauge of the active snapshot.
+     */
+    static final String SNAPSHOT_GAUGE = "catalog.snapshot.generation";
+
+    /**
+     * The snapshot requests are answered from.
+     */
+    private final AtomicReference<CatalogSnapshot> current;
+
+    /**
+     * The mapper the dropdown options of each snapshot are serialized with.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The directory the catalog is reloaded from, or null to reload the bundled catalog.
+     */
+    private final Path directory;
+
+    /**
+     * How long writes to the directory must be quiet before the catalog is reloaded, in milliseconds.
+     */
+    private final long debounceMillis;
+
+    /**
+     * The single thread reloads run on, one at a time.
+     */
+    private final ScheduledExecutorService reloader;
+
+    /**
+     * Watches the directory for changed workbooks, or null if no directory is set.
+     */
+    private final WatchService watchService;
+
+    /**
+     * The time spent in reloads that installed a new snapshot.
+     */
+    private final Timer updated;
+
+    /**
+     * The time spent in reloads that read the catalog already installed.
+     */
+    private final Timer unchanged;
+
+    /**
+     * The time spent in reloads that failed.
+     */
+    private final Timer failed;
+
+    /**
+     * The generation of the active snapshot, tagged with its catalog version.
+     */
+    private final MultiGauge snapshotGauge;
+
+    /**
+     * The reload waiting for the reload thread, which further requests share, or null if none is waiting.
+     */
+    private CompletableFuture<CatalogSnapshot> pendingReload;
+
+    /**
+     * The debounced reload scheduled by the last change to the directory, or null if none is scheduled.
+     */
+    private ScheduledFuture<?> scheduledReload;
+
+    /**
+     * Constructs the service from configuration, starting from the bundled catalog, and starts watching
+     * the reload directory if one is set.
+     *
+     * @param mapper the mapper the dropdown options of each snapshot are serialized with
+     * @param registry the registry the reload metrics are published to
+     * @param directory the directory to reload the workbooks from, or empty to only reload on request
+     * @param debounce how long writes to the directory must be quiet before reloading
+     * @throws UncheckedIOException if the directory cannot be watched
+     */
+    public CatalogService(ObjectMapper mapper, MeterRegistry registry,
+            @Value("${catalog.reload.dir:}") String directory,
+            @Value("${catalog.reload.debounce:2s}") Duration debounce) {
+        this.mapper = mapper;
+        this.current = new AtomicReference<>(new CatalogSnapshot(RequirementCatalog.getDefault(), mapper, 0));
+        this.directory = directory.isBlank() ? null : Path.of(directory).toAbsolutePath();
+        this.debounceMillis = debounce.toMillis();
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.updated = reloadTimer("updated", registry);
+        this.unchanged = reloadTimer("unchanged", registry);
+        this.failed = reloadTimer("failed", registry);
+        this.snapshotGauge = MultiGauge.builder(SNAPSHOT_GAUGE)
+            .description("The generation of the active catalog snapshot, tagged with its catalog version")
+            .register(registry);
+        publish(current.get());
+
+        if (this.directory == null) {
+            this.watchService = null;
+        } else {
+            try {
+                this.watchService = FileSystems.getDefault().newWatchService();
+                this.directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException e) {
+                reloader.shutdownNow();
+                throw new UncheckedIOException("Cannot watch catalog directory " + this.directory, e);
+            }
+            Thread watcher = new Thread(this::watch, "catalog-watch");
+            watcher.setDaemon(true);
+            watcher.start();
+
+            // Pick up the directory's workbooks without holding up startup
+            scheduleReload();
+        }
+    }
+
+    /**
+     * Returns the current snapshot. Callers should take it once per request or audit and use that
+     * snapshot throughout, so a reload in the meantime cannot mix two catalogs.
+     *
+     * @return the current snapshot
+     */
+    public CatalogSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * Requests a reload of the catalog in the background. Requests made while a reload is waiting to
+     * start share it; a request made once a reload has started queues another, as the workbooks may
+     * have changed after they were read.
+     *
+     * @return a future of the snapshot installed after the reload, which completes exceptionally if it failed
+     */
+    public synchronized CompletableFuture<CatalogSnapshot> reload() {
+        if (pendingReload != null) {
+            return pendingReload;
+        }
+        CompletableFuture<CatalogSnapshot> reload = new CompletableFuture<>();
+        pendingReload = reload;
+        reloader.execute(() -> {
+            synchronized (this) {
+                pendingReload = null;
+            }
+            // An Error must complete the future too, or callers waiting on the reload block forever
+            try {
+                reload.complete(reloadNow());
+            } catch (Throwable e) {
+                reload.completeExceptionally(e);
+            }
+        });
+        return reload;
+    }
+
+    /**
+     * Stops watching the directory and abandons any scheduled reload.
+     */
+    @PreDestroy
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("Failed to close the catalog directory watcher", e);
+            }
+        }
+        reloader.shutdownNow();
+    }
+
+    /**
+     * Reads the catalog and installs it as a new snapshot if it differs from the current one.
+     * Runs only on the reload thread, so only one reload swaps the snapshot at a time.
+     *
+     * @return the snapshot installed after the reload
+     */
+    private CatalogSnapshot reloadNow() {
+        CatalogSnapshot previous = current.get();
+        long start = System.nanoTime();
+        try {
+            RequirementCatalog catalog = directory != null ? CatalogWorkbooks.load(directory) : RequirementCatalog.load();
+            if (catalog.getVersion().equals(previous.getVersion())) {
+                unchanged.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.info("Catalog reloaded, version {} unchanged", previous.getVersion());
+                return previous;
+            }
+
+            CatalogSnapshot next = new CatalogSnapshot(catalog, mapper, previous.getGeneration() + 1);
+            current.set(next);
+            publish(next);
+            long nanos = System.nanoTime() - start;
+            updated.record(nanos, TimeUnit.NANOSECONDS);
+            log.info("Catalog reloaded from version {} to {} in {} ms", previous.getVersion(), next.getVersion(),
+                TimeUnit.NANOSECONDS.toMillis(nanos));
+            return next;
+        } catch (RuntimeException | Error e) {
+            failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Catalog reload failed, keeping version {}", previous.getVersion(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for changes to the directory, scheduling a reload when one of the workbooks is written.
+     * Runs on its own thread until the watcher is closed.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || event.context() instanceof Path file && CatalogWorkbooks.isWorkbook(file.toString())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    scheduleReload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * Schedules a reload once writes have been quiet for the debounce period, replacing any reload
+     * scheduled by an earlier write, so saving several workbooks at once reloads the catalog once.
+     */
+    private synchronized void scheduleReload() {
+        if (scheduledReload != null) {
+            scheduledReload.cancel(false);
+        }
+        scheduledReload = reloader.schedule(this::reload, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes the generation and version of the active snapshot.
+     *
+     * @param snapshot the active snapshot
+     */
+    private void publish(CatalogSnapshot snapshot) {
+        snapshotGauge.register(List.of(MultiGauge.Row.of(Tags.of("version", snapshot.getVersion()),
+            snapshot.getGeneration())), true);
+    }
+
+    /**
+     * Registers the reload timer for one outcome.
+     *
+     * @param result the value of the result tag
+     * @param registry the registry the timer is published to
+     * @return the timer
+     */
+    private static Timer reloadTimer(String result, MeterRegistry registry) {
+        return Timer.builder(RELOAD_TIMER)
+            .description("Time spent reloading the catalog")
+            .tag("result", result)
+            .register(registry);
+    }
+}
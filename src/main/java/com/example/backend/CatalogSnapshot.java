@@ -0,0 +1,94 @@
+package com.example.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+
+/**
+ * The CatalogSnapshot class is one immutable version of the catalog data the server answers from: the
+ * requirements of every major and minor with the course catalog, and the dropdown options serialized
+ * from them.
+ *
+ * {@link CatalogService} swaps whole snapshots, so a request that takes the current snapshot once
+ * sees one consistent catalog however many reloads happen while it runs.
+ */
+public final class CatalogSnapshot {
+
+    /**
+     * The requirements of every major and minor.
+     */
+    private final RequirementCatalog catalog;
+
+    /**
+     * The majors and minors offered for selection, serialized from the catalog.
+     */
+    private final DropdownOptions dropdownOptions;
+
+    /**
+     * The number of snapshots installed before this one since startup.
+     */
+    private final long generation;
+
+    /**
+     * When the snapshot was built.
+     */
+    private final Instant loadedAt;
+
+    /**
+     * Constructs a snapshot of a catalog, serializing its dropdown options.
+     *
+     * @param catalog the requirements of every major and minor
+     * @param mapper the mapper the dropdown options are serialized with
+     * @param generation the number of snapshots installed before this one
+     */
+    public CatalogSnapshot(RequirementCatalog catalog, ObjectMapper mapper, long generation) {
+        this.catalog = catalog;
+        this.dropdownOptions = DropdownOptions.of(catalog, mapper);
+        this.generation = generation;
+        this.loadedAt = Instant.now();
+    }
+
+    /**
+     * Returns the requirements of every major and minor.
+     *
+     * @return the requirement catalog
+     */
+    public RequirementCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Returns the majors and minors offered for selection.
+     *
+     * @return the serialized dropdown options
+     */
+    public DropdownOptions getDropdownOptions() {
+        return dropdownOptions;
+    }
+
+    /**
+     * Returns the version of the snapshot's catalog.
+     *
+     * @return the catalog version
+     */
+    public String getVersion() {
+        return catalog.getVersion();
+    }
+
+    /**
+     * Returns the number of snapshots installed before this one since startup.
+     *
+     * @return 0 for the catalog the server started with, incremented by each reload that changed it
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns when the snapshot was built.
+     *
+     * @return the load time
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.backend;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The CatalogSnapshotFormat class writes a {@link RequirementCatalog} to the compact binary snapshot that
+ * the build puts on the classpath, and reads it back without Apache POI.
+ *
+ * A snapshot starts with a magic number and the format version, followed by the catalog version, the
+ * major and minor names, the requirements of each major and minor, the course catalog, one entry per
+ * course and title with its offerings already merged, the AP credit rules and the course numbers wildcard
+ * requirements exclude. Requirements and AP rules are written as the
+ * strings they were read from, so they are rebuilt through the same {@link Requirement} factories as
+ * when read from the workbooks. A snapshot in any other format version is rejected rather than misread,
+ * so the format version must be bumped whenever the layout changes.
+ */
+public final class CatalogSnapshotFormat {
+
+    /**
+     * The classpath resource holding the compiled catalog.
+     */
+    static final String RESOURCE = "catalog.bin";
+
+    /**
+     * The magic number every snapshot starts with, "DPCS".
+     */
+    static final int MAGIC = 0x44504353;
+
+    /**
+     * The version of the snapshot layout.
+     */
+    static final int FORMAT_VERSION = 4;
+
+    private CatalogSnapshotFormat() {
+    }
+
+    /**
+     * Writes a catalog as a snapshot.
+     *
+     * @param catalog the catalog to write
+     * @param out the stream to write to, which is flushed but not closed
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(RequirementCatalog catalog, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeUTF(catalog.getVersion());
+        writeNames(data, catalog.getMajorNames());
+        writeNames(data, catalog.getMinorNames());
+        writeRequirements(data, catalog.requirements(false));
+        writeRequirements(data, catalog.requirements(true));
+        writeCourses(data, catalog.getCourses());
+        writeApCredits(data, catalog.getApCredits());
+        // Sorted, so the same workbooks always compile to the same snapshot
+        writeNames(data, List.copyOf(new TreeSet<>(catalog.getWildcardExclusions())));
+        data.flush();
+    }
+
+    /**
+     * Reads a catalog from a snapshot.
+     *
+     * @param in the stream to read from, which is not closed
+     * @return the catalog
+     * @throws IOException if the stream is not a snapshot in this format version, or cannot be read
+     */
+    public static RequirementCatalog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a catalog snapshot");
+        }
+        int formatVersion = data.readUnsignedShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported catalog snapshot format version " + formatVersion
+                + ", expected " + FORMAT_VERSION);
+        }
+        String version = data.readUTF();
+        List<String> majorNames = readNames(data);
+        List<String> minorNames = readNames(data);
+        Map<String, List<Requirement>> majors = readRequirements(data);
+        Map<String, List<Requirement>> minors = readRequirements(data);
+        CourseCatalog courses = readCourses(data);
+        ApCreditTable apCredits = readApCredits(data);
+        Set<String> wildcardExclusions = Set.copyOf(readNames(data));
+        return new RequirementCatalog(version, majorNames, minorNames, majors, minors, courses, apCredits,
+            wildcardExclusions);
+    }
+
+    /**
+     * Writes a list of names, such as the concentrations offered or the terms of a course.
+     *
+     * @param data the snapshot being written
+     * @param names the names
+     * @throws IOException if the names cannot be written
+     */
+    private static void writeNames(DataOutputStream data, List<String> names) throws IOException {
+        data.writeInt(names.size());
+        for (String name : names) {
+            data.writeUTF(name);
+        }
+    }
+
+    /**
+     * Reads a list of names, such as the concentrations offered or the terms of a course.
+     *
+     * @param data the snapshot being read
+     * @return an unmodifiable list of the names
+     * @throws IOException if the names cannot be read
+     */
+    private static List<String> readNames(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        ArrayList<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(data.readUTF());
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * Writes the requirements of every major or every minor, in name order.
+     *
+     * @param data the snapshot being written
+     * @param index the requirements of each concentration, keyed by lower-case name
+     * @throws IOException if the requirements cannot be written
+     */
+    private static void writeRequirements(DataOutputStream data, Map<String, List<Requirement>> index) throws IOException {
+        data.writeInt(index.size());
+        // Sorted by name, since the index iterates in an order that changes from one JVM to the next
+        for (Map.Entry<String, List<Requirement>> entry : new TreeMap<>(index).entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (Requirement requirement : entry.getValue()) {
+                writeRequirement(data, requirement);
+            }
+        }
+    }
+
+    /**
+     * Reads the requirements of every major or every minor.
+     *
+     * @param data the snapshot being read
+     * @return an unmodifiable map from lower-case name to the concentration's requirements
+     * @throws IOException if the requirements cannot be read
+     */
+    private static Map<String, List<Requirement>> readRequirements(DataInputStream data) throws IOException {
+        int concentrations = data.readInt();
+        Map<String, List<Requirement>> grouped = new HashMap<>();
+        for (int i = 0; i < concentrations; i++) {
+            String key = data.readUTF();
+            int count = data.readInt();
+            ArrayList<Requirement> requirements = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                requirements.add(readRequirement(data));
+            }
+            grouped.put(key, requirements);
+        }
+        return RequirementCatalog.freeze(grouped);
+    }
+
+    /**
+     * Writes the course catalog.
+     *
+     * @param data the snapshot being written
+     * @param courses the course catalog
+     * @throws IOException if the courses cannot be written
+     */
+    private static void writeCourses(DataOutputStream data, CourseCatalog courses) throws IOException {
+        data.writeInt(courses.size());
+        for (CatalogCourse course : courses.getCourses()) {
+            data.writeUTF(course.getCode());
+            data.writeUTF(course.getTitle());
+            writeNames(data, course.getAreas());
+            data.writeDouble(course.getCredits());
+            writeNames(data, course.getTerms());
+        }
+    }
+
+    /**
+     * Reads the course catalog, indexing it again.
+     *
+     * @param data the snapshot being read
+     * @return the course catalog
+     * @throws IOException if the courses cannot be read
+     */
+    private static CourseCatalog readCourses(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        ArrayList<CatalogCourse> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String code = data.readUTF();
+            String title = data.readUTF();
+            List<String> areas = readNames(data);
+            double credits = data.readDouble();
+            List<String> terms = readNames(data);
+            courses.add(new CatalogCourse(code, title, areas, credits, terms));
+        }
+        return new CourseCatalog(courses);
+    }
+
+    /**
+     * Writes the AP credit rules.
+     *
+     * @param data the snapshot being written
+     * @param apCredits the AP credit table
+     * @throws IOException if the rules cannot be written
+     */
+    private static void writeApCredits(DataOutputStream data, ApCreditTable apCredits) throws IOException {
+        data.writeInt(apCredits.getRules().size());
+        for (ApCreditTable.Rule rule : apCredits.getRules()) {
+            data.writeUTF(rule.exam().name());
+            data.writeInt(rule.exam().score());
+            data.writeDouble(rule.credits());
+            data.writeUTF(rule.equivalent());
+            ApCreditTable.Exam requires = rule.requires();
+            data.writeUTF(requires == null ? "" : requires.name() + ", " + requires.score());
+        }
+    }
+
+    /**
+     * Reads the AP credit rules, indexing them again.
+     *
+     * @param data the snapshot being read
+     * @return the AP credit table
+     * @throws IOException if the rules cannot be read
+     */
+    private static ApCreditTable readApCredits(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        ArrayList<ApCreditTable.Rule> rules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String exam = data.readUTF();
+            int score = data.readInt();
+            double credits = data.readDouble();
+            String equivalent = data.readUTF();
+            String requires = data.readUTF();
+            rules.add(ApCreditTable.rule(exam, score, credits, equivalent, requires));
+        }
+        return new ApCreditTable(rules);
+    }
+
+    /**
+     * Writes one requirement, and the sub-requirements of a sequence requirement.
+     *
+     * @param data the snapshot being written
+     * @param requirement the requirement
+     * @throws IOException if the requirement cannot be written
+     */
+    private static void writeRequirement(DataOutputStream data, Requirement requirement) throws IOException {
+        data.writeBoolean(requirement.isSeq());
+        data.writeUTF(requirement.getTitle());
+        data.writeInt(requirement.getNumNeeded());
+        data.writeUTF(requirement.getGradeRequirement());
+        if (requirement.isSeq()) {
+            data.writeInt(requirement.getSequences().size());
+            for (Requirement sequence : requirement.getSequences()) {
+                writeRequirement(data, sequence);
+            }
+        } else {
+            data.writeInt(requirement.getCourseGroups().size());
+            for (String group : requirement.getCourseGroups()) {
+                data.writeUTF(group);
+            }
+            data.writeUTF(requirement.getNumberRequirements());
+            data.writeUTF(requirement.getTypeRequirements());
+        }
+    }
+
+    /**
+     * Reads one requirement, and the sub-requirements of a sequence requirement.
+     *
+     * @param data the snapshot being read
+     * @return the requirement
+     * @throws IOException if the requirement cannot be read
+     */
+    private static Requirement readRequirement(DataInputStream data) throws IOException {
+        boolean sequence = data.readBoolean();
+        String title = data.readUTF();
+        int numNeeded = data.readInt();
+        String gradeRequirement = data.readUTF();
+        if (sequence) {
+            int count = data.readInt();
+            ArrayList<Requirement> sequences = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                sequences.add(readRequirement(data));
+            }
+            return Requirement.fromSequences(title, sequences, numNeeded, gradeRequirement);
+        }
+        int count = data.readInt();
+        ArrayList<String> courseGroups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            courseGroups.add(data.readUTF());
+        }
+        String numberRequirements = data.readUTF();
+        String typeRequirements = data.readUTF();
+        return Requirement.fromCourseGroups(title, courseGroups, numNeeded, numberRequirements, typeRequirements, gradeRequirement);
+    }
+}
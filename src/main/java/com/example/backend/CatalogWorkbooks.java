@@ -0,0 +1,377 @@
+package com.example.backend;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The CatalogWorkbooks class reads a {@link RequirementCatalog} from the list, requirement, course,
+ * AP credit and wildcard exclusion workbooks, either on the classpath or in a directory the catalog is
+ * reloaded from, streaming each workbook's rows through {@link SheetGenerator#readRows}. This is the
+ * only part of the catalog that needs Apache POI: the build compiles the bundled workbooks into a
+ * snapshot with {@link CatalogCompiler}, and the server reads workbooks only when that snapshot is
+ * missing or when {@link CatalogService} reloads the catalog.
+ */
+public final class CatalogWorkbooks {
+
+    /**
+     * The classpath resource listing the majors offered for selection.
+     */
+    static final String MAJOR_LIST = "Major-List.xlsx";
+
+    /**
+     * The classpath resource listing the minors offered for selection.
+     */
+    static final String MINOR_LIST = "Minor-List.xlsx";
+
+    /**
+     * The classpath resource holding the major requirements.
+     */
+    static final String MAJOR_REQUIREMENTS = "Major-Requirements.xlsx";
+
+    /**
+     * The classpath resource holding the minor requirements.
+     */
+    static final String MINOR_REQUIREMENTS = "Minor-Requirements.xlsx";
+
+    /**
+     * The classpath resource listing every offering of every course, one per row.
+     */
+    static final String COURSE_LIST = "Full-Course-List.xlsx";
+
+    /**
+     * The classpath resource holding the AP equivalencies, one exam score per row.
+     */
+    static final String AP_CREDITS = "AP-Test-Credits.xlsx";
+
+    /**
+     * The classpath resource listing the course numbers that wildcard requirements such as "CSC-XXX"
+     * never match, one per row.
+     */
+    static final String WILDCARD_EXCLUSIONS = "Wildcard-Exclusions.xlsx";
+
+    /**
+     * The number of hex digits of the workbook digest used as the catalog version.
+     */
+    private static final int VERSION_LENGTH = 16;
+
+    /**
+     * The names of the workbooks the catalog is read from.
+     */
+    private static final Set<String> WORKBOOKS = Set.of(MAJOR_LIST, MINOR_LIST, MAJOR_REQUIREMENTS, MINOR_REQUIREMENTS,
+        COURSE_LIST, AP_CREDITS, WILDCARD_EXCLUSIONS);
+
+    /**
+     * Opens a workbook by resource name, adding its bytes to the digest of the workbooks read so far.
+     */
+    @FunctionalInterface
+    private interface Opener {
+        /**
+         * @param resource the name of the workbook resource
+         * @param digest the digest of the workbooks read so far
+         * @return the rows of the workbook
+         * @throws IOException if the workbook is missing or cannot be read
+         */
+        WorkbookRows open(String resource, MessageDigest digest) throws IOException;
+    }
+
+    /**
+     * Streams the rows of an opened workbook's first sheet.
+     */
+    @FunctionalInterface
+    private interface WorkbookRows {
+        /**
+         * @param handler receives each row
+         * @throws IOException if the workbook cannot be read
+         */
+        void readRows(SheetGenerator.RowHandler handler) throws IOException;
+    }
+
+    private CatalogWorkbooks() {
+    }
+
+    /**
+     * Reads the catalog from the list, requirement, course, AP credit and wildcard exclusion workbooks on
+     * the classpath, closing each workbook once read. The catalog's version is a digest of the seven
+     * workbooks, so it only changes when one of them does.
+     *
+     * @return a new catalog
+     * @throws UncheckedIOException if a workbook is missing or cannot be read
+     */
+    public static RequirementCatalog load() {
+        return load(CatalogWorkbooks::openResource);
+    }
+
+    /**
+     * Reads the catalog from the list, requirement, course, AP credit and wildcard exclusion workbooks in
+     * a directory, such as the registrar's latest exports, closing each workbook once read.
+     *
+     * @param directory the directory holding the seven workbooks, under the same names as on the classpath
+     * @return a new catalog
+     * @throws UncheckedIOException if a workbook is missing or cannot be read
+     */
+    public static RequirementCatalog load(Path directory) {
+        return load((resource, digest) -> openFile(directory.resolve(resource), digest));
+    }
+
+    /**
+     * Returns whether a file name is one of the workbooks the catalog is read from.
+     *
+     * @param fileName the name of the file, without a directory
+     * @return true for the list, requirement, course, AP credit and wildcard exclusion workbooks
+     */
+    public static boolean isWorkbook(String fileName) {
+        return WORKBOOKS.contains(fileName);
+    }
+
+    /**
+     * Reads the catalog from the seven workbooks.
+     *
+     * @param opener opens each workbook by resource name
+     * @return a new catalog
+     * @throws UncheckedIOException if a workbook is missing or cannot be read
+     */
+    private static RequirementCatalog load(Opener opener) {
+        MessageDigest digest = sha256();
+        try {
+            List<String> majorNames = names(opener.open(MAJOR_LIST, digest));
+            List<String> minorNames = names(opener.open(MINOR_LIST, digest));
+            Map<String, List<Requirement>> majors = index(opener.open(MAJOR_REQUIREMENTS, digest));
+            Map<String, List<Requirement>> minors = index(opener.open(MINOR_REQUIREMENTS, digest));
+            CourseCatalog courses = courses(opener.open(COURSE_LIST, digest));
+            ApCreditTable apCredits = apCredits(opener.open(AP_CREDITS, digest));
+            Set<String> wildcardExclusions = wildcardExclusions(opener.open(WILDCARD_EXCLUSIONS, digest));
+            String version = HexFormat.of().formatHex(digest.digest()).substring(0, VERSION_LENGTH);
+            return new RequirementCatalog(version, majorNames, minorNames, majors, minors, courses, apCredits,
+                wildcardExclusions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a bundled workbook from the classpath into memory, adding its bytes to a digest. The bundled
+     * workbooks are small and may be inside the application's jar, so they are not opened in place.
+     *
+     * @param resource the name of the workbook resource
+     * @param digest the digest of the workbooks read so far
+     * @return the rows of the workbook
+     * @throws IOException if the workbook is missing or cannot be read
+     */
+    private static WorkbookRows openResource(String resource, MessageDigest digest) throws IOException {
+        try (InputStream in = CatalogWorkbooks.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("File not found: " + resource);
+            }
+            byte[] bytes = in.readAllBytes();
+            digest.update(bytes);
+            return handler -> SheetGenerator.readRows(new ByteArrayInputStream(bytes), handler);
+        }
+    }
+
+    /**
+     * Opens a workbook in a directory, adding its bytes to a digest. The file is digested as a stream and
+     * then read in place one zip entry at a time, so a large export is never held in memory whole; a file
+     * replaced between the two is picked up by the reload its replacement triggers.
+     *
+     * @param file the workbook file
+     * @param digest the digest of the workbooks read so far
+     * @return the rows of the workbook
+     * @throws IOException if the workbook is missing or cannot be read
+     */
+    private static WorkbookRows openFile(Path file, MessageDigest digest) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("File not found: " + file.getFileName());
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return handler -> SheetGenerator.readRows(file.toString(), handler);
+    }
+
+    /**
+     * Returns a new SHA-256 digest.
+     *
+     * @return the digest
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the concentration names of a list workbook.
+     *
+     * @param workbook the list workbook, with a name in the first cell of each row
+     * @return an unmodifiable list of the names, in row order
+     * @throws IOException if the workbook cannot be read
+     */
+    private static List<String> names(WorkbookRows workbook) throws IOException {
+        ArrayList<String> names = new ArrayList<>();
+        workbook.readRows(row -> {
+            if (!row.isBlank(0)) {
+                names.add(row.getString(0));
+            }
+        });
+        return List.copyOf(names);
+    }
+
+    /**
+     * Groups the rows of a requirement workbook by concentration name.
+     *
+     * @param workbook the requirement workbook, with a header row
+     * @return an unmodifiable map from lower-case name to the concentration's requirements
+     * @throws IOException if the workbook cannot be read
+     */
+    private static Map<String, List<Requirement>> index(WorkbookRows workbook) throws IOException {
+        Map<String, List<Requirement>> grouped = new HashMap<>();
+        workbook.readRows(row -> {
+            if (row.getRowNum() == 0) return; // Skip header row
+            if (row.isBlank(0)) return;
+
+            String name = row.getString(0).trim();
+            List<Requirement> requirements = grouped.computeIfAbsent(RequirementCatalog.key(name), k -> new ArrayList<>());
+
+            String courses = row.getString(1).trim();
+            int numNeeded = (int) row.getNumber(2);
+            String title = row.getString(3).trim();
+            String numberRequirements = row.isBlank(4) ? "" : row.getString(4).trim();
+            String typeRequirements = row.isBlank(5) ? "" : row.getString(5).trim();
+            String gradeRequirement = row.isBlank(6) ? "" : row.getString(6).trim();
+
+            if (courses.contains(";")) {
+                requirements.add(Requirement.fromSequences(title, parseSequences(courses, title, gradeRequirement), numNeeded, gradeRequirement));
+            } else {
+                requirements.add(Requirement.fromCourseGroups(title, parseCourseList(courses), numNeeded, numberRequirements, typeRequirements, gradeRequirement));
+            }
+        });
+        return RequirementCatalog.freeze(grouped);
+    }
+
+    /**
+     * Reads the course list workbook, merging the offerings of each course.
+     *
+     * @param workbook the course list workbook, with the term, code, title, general education areas
+     *                 separated by semicolons, and credits of one offering per row
+     * @return the course catalog
+     * @throws IOException if the workbook cannot be read
+     */
+    private static CourseCatalog courses(WorkbookRows workbook) throws IOException {
+        CourseCatalog.Builder courses = CourseCatalog.builder();
+        workbook.readRows(row -> {
+            if (row.isBlank(0) || row.isBlank(1) || row.isBlank(2)) return;
+
+            String term = row.getString(0).trim();
+            String code = row.getString(1).trim();
+            String title = row.getString(2).trim();
+            List<String> areas = row.isBlank(3) ? List.of() : List.of(row.getString(3).trim().split("\\s*;\\s*"));
+            double credits = row.isBlank(4) ? 0 : row.getNumber(4);
+            courses.add(term, code, title, areas, credits);
+        });
+        return courses.build();
+    }
+
+    /**
+     * Reads the AP credit workbook.
+     *
+     * @param workbook the AP credit workbook, with the exam, score, credits, equivalent courses and the
+     *                 other exam required, if any, of one rule per row
+     * @return the AP credit table
+     * @throws IOException if the workbook cannot be read
+     */
+    private static ApCreditTable apCredits(WorkbookRows workbook) throws IOException {
+        ArrayList<ApCreditTable.Rule> rules = new ArrayList<>();
+        workbook.readRows(row -> {
+            if (row.isBlank(0) || row.isBlank(1)) return;
+
+            String exam = row.getString(0).trim();
+            int score = (int) row.getNumber(1);
+            double credits = row.isBlank(2) ? 0 : row.getNumber(2);
+            String equivalent = row.isBlank(3) ? "" : row.getString(3).trim();
+            String requires = row.isBlank(4) ? "" : row.getString(4).trim();
+            rules.add(ApCreditTable.rule(exam, score, credits, equivalent, requires));
+        });
+        return new ApCreditTable(rules);
+    }
+
+    /**
+     * Reads the wildcard exclusion workbook.
+     *
+     * @param workbook the wildcard exclusion workbook, with a course number such as "295H" and a
+     *                 description of the courses it excludes on each row
+     * @return an unmodifiable set of the excluded course numbers
+     * @throws IOException if the workbook cannot be read
+     */
+    private static Set<String> wildcardExclusions(WorkbookRows workbook) throws IOException {
+        ArrayList<String> numbers = new ArrayList<>();
+        workbook.readRows(row -> {
+            if (!row.isBlank(0)) {
+                numbers.add(row.getString(0).trim());
+            }
+        });
+        return Set.copyOf(numbers);
+    }
+
+    /**
+     * Parses a comma-separated list of courses into an {@code ArrayList} of course names.
+     *
+     * @param courses a {@code String} containing courses separated by commas.
+     * @return an {@code ArrayList} of individual course names.
+     */
+    private static ArrayList<String> parseCourseList(String courses) {
+        return new ArrayList<>(Arrays.asList(courses.split("\\s*,\\s*")));
+    }
+
+    /**
+     * Parses sequences of course requirements formatted as semicolon-separated groups.
+     *
+     * Each group is expected to be in the format: {@code (course1, course2, ... | numNeeded)}.
+     * Parentheses are removed and the group is split into a list of courses and the required number.
+     *
+     * @param seqs             a {@code String} containing the sequences.
+     * @param title            the title to assign to each requirement group.
+     * @param gradeRequirement the grade requirement applicable to the sequence.
+     * @return an {@code ArrayList} of {@code Requirement} objects created from the sequences.
+     */
+    private static ArrayList<Requirement> parseSequences(String seqs, String title, String gradeRequirement) {
+        ArrayList<Requirement> requirements = new ArrayList<>();
+
+        // Split the input by semicolons to separate different requirement groups
+        String[] groups = seqs.split("\\s*;\\s*");
+
+        for (String group : groups) {
+            // Remove parentheses and trim whitespace
+            group = group.replaceAll("[()]", "").trim();
+
+            // Split into course list and number needed
+            String[] parts = group.split("\\s*\\|\\s*");
+            if (parts.length != 2) continue; // Ensure valid format
+
+            // Extract course list and number of courses needed
+            ArrayList<String> courseList = parseCourseList(parts[0]);
+            int numNeeded = Integer.parseInt(parts[1].trim());
+
+            requirements.add(Requirement.fromCourseGroups(title, courseList, numNeeded, "", "", gradeRequirement));
+        }
+
+        return requirements;
+    }
+}
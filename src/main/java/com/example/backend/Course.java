@@ -1,5 +1,6 @@
 package com.example.backend;
 import java.util.ArrayList;
+import java.util.Map;
 
 /**
  * Represents a course with details such as term, year, code, title, types, credits, AP status, and grade.
@@ -26,9 +27,9 @@ public class Course {
     private String title;
     
     /**
-     * A list of course types.
+     * The course types, as a mask of {@link CourseAttribute} bits.
      */
-    private ArrayList<String> types;
+    private long attributes;
     
     /**
      * The number of credits for the course.
@@ -45,6 +46,28 @@ public class Course {
      */
     private String grade;
 
+    /**
+     * The course number, the three digits after the department, e.g. 120 for CSC-120.
+     */
+    private int number;
+
+    /**
+     * The grade points of the grade, as given by {@link #gradePoints(String)}.
+     */
+    private double gradePoints;
+
+    /**
+     * The grade points of each grade. Grades still to come or without a letter rank above an A, so
+     * they satisfy any grade requirement.
+     */
+    private static final Map<String, Double> GRADE_SCALE = Map.ofEntries(
+            Map.entry("CIP", 4.3), Map.entry("N/A", 4.3), Map.entry("T", 4.3),
+            Map.entry("A", 4.0), Map.entry("A-", 3.7),
+            Map.entry("B+", 3.3), Map.entry("B", 3.0), Map.entry("B-", 2.7),
+            Map.entry("C+", 2.3), Map.entry("C", 2.0), Map.entry("C-", 1.7),
+            Map.entry("D+", 1.3), Map.entry("D", 1.0), Map.entry("D-", 0.7),
+            Map.entry("F", 0.0));
+
     /**
      * Constructs a Course object with the specified details.
      *
@@ -57,25 +80,42 @@ public class Course {
      * @param grade the grade received for the course
      */
     public Course(String term, String year, String code, String title, ArrayList<String> types, int credits, String grade){
+        this(term, year, code, title, CourseAttribute.maskOf(types), credits, grade);
+    }
+
+    /**
+     * Constructs a Course object with the specified details and its course types as an attribute mask.
+     *
+     * @param term the term during which the course is offered
+     * @param year the year the course is offered
+     * @param code the code identifying the course
+     * @param title the title of the course
+     * @param attributes the course types, as a mask of {@link CourseAttribute} bits
+     * @param credits the number of credits for the course
+     * @param grade the grade received for the course
+     */
+    public Course(String term, String year, String code, String title, long attributes, int credits, String grade){
         this.term = term;
         this.year = year;
         this.code = code;
         this.title = title;
-        this.types = types;
+        this.attributes = attributes;
         this.credits = credits;
         this.isAP = false;
         this.grade = grade;
+        this.number = parseNumber(code);
+        this.gradePoints = gradePoints(grade);
     }
 
     /**
      * Constructs an Advanced Placement (AP) Course object with the specified code and credits.
-     * Term, year, title, and types are set to null, and grade is set to "N/A".
+     * Term, year, and title are set to null, the course has no types, and grade is set to "N/A".
      *
      * @param code the code identifying the course
      * @param credits the number of credits for the course
      */
     public Course(String code, int credits){
-        this(null, null, code, null, null, credits, "N/A");
+        this(null, null, code, null, 0L, credits, "N/A");
         this.isAP = true;
     }
 
@@ -97,6 +137,55 @@ public class Course {
         return code.substring(0,4);
     }
 
+    /**
+     * Returns the course number, the three digits after the department, e.g. 120 for CSC-120 and 295 for CSC-295H.
+     *
+     * @return the course number, or -1 if the code has no number
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the grade points of the grade received, as compared against a requirement's minimum grade.
+     *
+     * @return the grade points, or -1 if the grade is not on the scale
+     */
+    public double getGradePoints() {
+        return gradePoints;
+    }
+
+    /**
+     * Returns the grade points of a grade, e.g. 3.7 for "A-".
+     *
+     * @param grade the grade
+     * @return the grade points, or -1 if the grade is null or not on the scale
+     */
+    public static double gradePoints(String grade) {
+        return grade == null ? -1.0 : GRADE_SCALE.getOrDefault(grade.trim(), -1.0);
+    }
+
+    /**
+     * Reads the three-digit number of a course code, e.g. 120 from CSC-120.
+     *
+     * @param code the course code
+     * @return the course number, or -1 if the code has no number
+     */
+    private static int parseNumber(String code) {
+        if (code == null || code.length() < 7) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 4; i < 7; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
     /**
      * Returns the year the course is offered.
      *
@@ -125,12 +214,31 @@ public class Course {
     }
 
     /**
-     * Returns the list of course types.
+     * Returns the list of course types, in transcript sheet column order.
      *
-     * @return an ArrayList of course types
+     * @return a new ArrayList of course type codes
      */
     public ArrayList<String> getTypes(){
-        return types;
+        return CourseAttribute.codesOf(attributes);
+    }
+
+    /**
+     * Returns the course types as a mask of {@link CourseAttribute} bits.
+     *
+     * @return the course attribute mask
+     */
+    public long getAttributes(){
+        return attributes;
+    }
+
+    /**
+     * Indicates whether the course has any of the given course types.
+     *
+     * @param mask a mask of {@link CourseAttribute} bits
+     * @return true if the course has at least one of the types in the mask
+     */
+    public boolean hasAnyAttribute(long mask){
+        return (attributes & mask) != 0;
     }
 
     /**
@@ -166,6 +274,6 @@ public class Course {
      * @return a string representation of the course
      */
     public String toString(){
-        return code + "; " + title + "; " + types + "; " + term + "; " + year + "; " + credits;
+        return code + "; " + title + "; " + getTypes() + "; " + term + "; " + year + "; " + credits;
     }
 }
\ No newline at end of file
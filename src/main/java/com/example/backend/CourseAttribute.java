@@ -0,0 +1,198 @@
+package com.example.backend;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The CourseAttribute enum lists the course types a transcript can flag a course with, such as
+ * WAC-R or GLIT, in the order of the course type columns of the transcript sheet.
+ *
+ * A set of attributes is carried as a {@code long} bitmask with one bit per attribute, so a course
+ * is parsed into its attributes once and a type requirement is checked with a single AND.
+ * Attributes are looked up by exact code, so "WAC" never matches "WAC-R".
+ */
+public enum CourseAttribute {
+    WAC("WAC"),
+    WAC_R("WAC-R"),
+    WS("WS"),
+    JCAD("JCAD"),
+    GCAD("GCAD"),
+    JDQR("JDQR"),
+    GDQR("GDQR"),
+    JLIT("JLIT"),
+    GLIT("GLIT"),
+    JSPE("JSPE"),
+    GSPE("GSPE"),
+    JCHF("JCHF"),
+    GCHF("GCHF"),
+    JETS("JETS"),
+    GETS("GETS"),
+    JNPS("JNPS"),
+    GNPS("GNPS"),
+    JWOL("JWOL"),
+    GWOL("GWOL"),
+    HUL("HUL"),
+    HUM("HUM"),
+    LCC("LCC"),
+    SCLB("SCLB"),
+    QMR("QMR"),
+    SET("SET"),
+    SOCS("SOCS");
+
+    /**
+     * The attributes in sheet column order, cached since {@code values()} copies on every call.
+     */
+    private static final CourseAttribute[] VALUES = values();
+
+    /**
+     * The attributes by code. The course rows of a transcript truncate "WAC-R" to "WAC-" and
+     * print the LCC column's code as "LCCS", so those spellings are accepted as well.
+     */
+    private static final Map<String, CourseAttribute> BY_CODE = new HashMap<>();
+
+    static {
+        for (CourseAttribute attribute : VALUES) {
+            BY_CODE.put(attribute.code, attribute);
+        }
+        BY_CODE.put("WAC-", WAC_R);
+        BY_CODE.put("LCCS", LCC);
+    }
+
+    /**
+     * The code of the attribute as printed on transcripts and in the sheet header, e.g. "WAC-R".
+     */
+    private final String code;
+
+    /**
+     * Constructs an attribute with its transcript code.
+     *
+     * @param code the code of the attribute
+     */
+    CourseAttribute(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the code of the attribute as printed on transcripts and in the sheet header.
+     *
+     * @return the attribute code
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the bit of this attribute within an attribute mask.
+     *
+     * @return the attribute's bit
+     */
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Returns whether this attribute is set in the given mask.
+     *
+     * @param mask an attribute mask
+     * @return true if the mask contains this attribute
+     */
+    public boolean in(long mask) {
+        return (mask & mask()) != 0;
+    }
+
+    /**
+     * Returns the attribute with the given code.
+     *
+     * @param code the attribute code, e.g. "GLIT"
+     * @return the attribute, or null if the code is not a course attribute
+     */
+    public static CourseAttribute fromCode(String code) {
+        return BY_CODE.get(code);
+    }
+
+    /**
+     * Returns the attributes in sheet column order.
+     *
+     * @return the attributes; callers must not modify the array
+     */
+    static CourseAttribute[] columns() {
+        return VALUES;
+    }
+
+    /**
+     * Parses codes separated by commas or whitespace, such as "WAC-, GLIT" from a transcript or
+     * the "WAC-R" of a type requirement, into an attribute mask. Codes that are not course
+     * attributes are ignored.
+     *
+     * @param codes the separated attribute codes
+     * @return the mask of the attributes named
+     */
+    public static long parseMask(String codes) {
+        long mask = 0L;
+        int length = codes.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && isSeparator(codes.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && !isSeparator(codes.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                CourseAttribute attribute = BY_CODE.get(codes.substring(start, end));
+                if (attribute != null) {
+                    mask |= attribute.mask();
+                }
+            }
+            start = end;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the codes of the attributes in a mask, in sheet column order.
+     *
+     * @param mask an attribute mask
+     * @return a new list of the attribute codes
+     */
+    public static ArrayList<String> codesOf(long mask) {
+        ArrayList<String> codes = new ArrayList<>(Long.bitCount(mask));
+        for (CourseAttribute attribute : VALUES) {
+            if (attribute.in(mask)) {
+                codes.add(attribute.code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Builds the mask of the attributes named by a list of codes.
+     *
+     * @param codes the attribute codes, or null for none
+     * @return the mask of the attributes named
+     */
+    public static long maskOf(Iterable<String> codes) {
+        long mask = 0L;
+        if (codes != null) {
+            for (String code : codes) {
+                CourseAttribute attribute = BY_CODE.get(code);
+                if (attribute != null) {
+                    mask |= attribute.mask();
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns whether a character separates attribute codes.
+     *
+     * @param c the character
+     * @return true for commas and whitespace
+     */
+    private static boolean isSeparator(char c) {
+        return c == ',' || Character.isWhitespace(c);
+    }
+}
@@ -0,0 +1,425 @@
+package com.example.backend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * The CourseCatalog class holds every course the college offers, read from the course list workbook,
+ * indexed by department and number for lookups and by a prefix trie for search.
+ *
+ * The trie holds the code of each course, compacted to letters and digits ("csc120"), its number, and
+ * each word of its title. Every node keeps the sorted ids of the courses with a key under it, so a
+ * search walks one path per query word and intersects a handful of small arrays, without looking at
+ * the courses that do not match.
+ *
+ * The catalog is immutable once built, so it is shared by every request and thread.
+ */
+public final class CourseCatalog {
+
+    /**
+     * The order of the seasons within a calendar year.
+     */
+    private static final List<String> SEASONS = List.of("Winter", "Spring", "Summer", "Fall");
+
+    /**
+     * Separates the words of a title or query.
+     */
+    private static final Pattern WORDS = Pattern.compile("\\s+");
+
+    /**
+     * Separates the parts of a hyphenated or slashed word.
+     */
+    private static final Pattern WORD_PARTS = Pattern.compile("[-/]");
+
+    /**
+     * Orders terms oldest first, with terms that cannot be parsed last.
+     */
+    private static final Comparator<String> TERM_ORDER = Comparator.comparingInt(CourseCatalog::termOrder)
+        .thenComparing(Comparator.naturalOrder());
+
+    /**
+     * Every course, ordered by code and then title; a course's id is its position in this list.
+     */
+    private final List<CatalogCourse> courses;
+
+    /**
+     * The courses of each department, keyed by number, in number order.
+     */
+    private final Map<String, Map<String, List<CatalogCourse>>> departments;
+
+    /**
+     * The root of the prefix trie, which holds the ids of every course.
+     */
+    private final TrieNode root;
+
+    /**
+     * Constructs a catalog of courses and indexes them.
+     *
+     * @param courses the courses, in any order
+     */
+    CourseCatalog(List<CatalogCourse> courses) {
+        ArrayList<CatalogCourse> sorted = new ArrayList<>(courses);
+        sorted.sort(Comparator.comparing(CatalogCourse::getCode).thenComparing(CatalogCourse::getTitle));
+        this.courses = List.copyOf(sorted);
+
+        Map<String, TreeMap<String, List<CatalogCourse>>> grouped = new HashMap<>();
+        for (CatalogCourse course : this.courses) {
+            grouped.computeIfAbsent(course.getDepartment(), k -> new TreeMap<>())
+                .computeIfAbsent(course.getNumber(), k -> new ArrayList<>())
+                .add(course);
+        }
+        Map<String, Map<String, List<CatalogCourse>>> index = new HashMap<>();
+        for (Map.Entry<String, TreeMap<String, List<CatalogCourse>>> department : grouped.entrySet()) {
+            LinkedHashMap<String, List<CatalogCourse>> numbers = new LinkedHashMap<>();
+            department.getValue().forEach((number, offered) -> numbers.put(number, List.copyOf(offered)));
+            index.put(department.getKey(), Collections.unmodifiableMap(numbers));
+        }
+        this.departments = Map.copyOf(index);
+
+        this.root = new TrieNode();
+        for (int id = 0; id < this.courses.size(); id++) {
+            root.add(id);
+            for (String key : keys(this.courses.get(id))) {
+                TrieNode node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.childOrAdd(key.charAt(i));
+                    node.add(id);
+                }
+            }
+        }
+        root.trim();
+    }
+
+    /**
+     * Returns a builder that merges the offerings of the course list into courses.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns every course.
+     *
+     * @return an unmodifiable list of the courses, ordered by code and then title
+     */
+    public List<CatalogCourse> getCourses() {
+        return courses;
+    }
+
+    /**
+     * Returns the courses offered under a code, one per title.
+     *
+     * @param code the course code, e.g. "CSC-120", in any case
+     * @return the courses ordered by title, or an empty list if there is no such course
+     */
+    public List<CatalogCourse> getCourses(String code) {
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        int dash = normalized.indexOf('-');
+        String department = dash < 0 ? normalized : normalized.substring(0, dash);
+        String number = dash < 0 ? "" : normalized.substring(dash + 1);
+        return getDepartment(department).getOrDefault(number, List.of());
+    }
+
+    /**
+     * Returns the courses of a department.
+     *
+     * @param department the department, e.g. "CSC", in any case
+     * @return an unmodifiable map from number to the courses offered under it, in number order,
+     *         or an empty map if there is no such department
+     */
+    public Map<String, List<CatalogCourse>> getDepartment(String department) {
+        return departments.getOrDefault(department.trim().toUpperCase(Locale.ROOT), Map.of());
+    }
+
+    /**
+     * Returns the number of courses in the catalog.
+     *
+     * @return the course count
+     */
+    public int size() {
+        return courses.size();
+    }
+
+    /**
+     * Searches the catalog for courses matching every word of a query, each as a prefix of the course's
+     * code, number or a word of its title, ignoring case and punctuation: "csc 1", "CSC-12" and
+     * "prog purp" all find CSC-120, Programming on Purpose. An empty query matches every course.
+     *
+     * @param query the words to search for
+     * @param page the zero-based page of results to return
+     * @param size the number of results per page
+     * @return the page of matching courses, ordered by code and then title, and the number of matches
+     */
+    public SearchPage search(String query, int page, int size) {
+        ArrayList<int[]> matches = new ArrayList<>();
+        for (String word : WORDS.split(query.trim())) {
+            String key = normalize(word);
+            if (key.isEmpty()) continue;
+
+            TrieNode node = root.find(key);
+            if (node == null) {
+                return new SearchPage(query, page, size, 0, List.of());
+            }
+            matches.add(node.ids);
+        }
+        if (matches.isEmpty()) {
+            matches.add(root.ids);
+        }
+
+        // Walk the fewest candidates, checking each against the other words' ids
+        matches.sort(Comparator.comparingInt(ids -> ids.length));
+        long from = (long) page * size;
+        long to = from + size;
+        ArrayList<CatalogCourse> results = new ArrayList<>();
+        int total = 0;
+        for (int id : matches.get(0)) {
+            if (!matchesAll(id, matches)) continue;
+            if (total >= from && total < to) {
+                results.add(courses.get(id));
+            }
+            total++;
+        }
+        return new SearchPage(query, page, size, total, List.copyOf(results));
+    }
+
+    /**
+     * A page of search results.
+     *
+     * @param query the query searched for
+     * @param page the zero-based page
+     * @param size the number of results per page
+     * @param total the number of courses matching the query, on every page
+     * @param courses the courses on this page
+     */
+    public record SearchPage(String query, int page, int size, int total, List<CatalogCourse> courses) {
+    }
+
+    /**
+     * Returns whether a course matched every word of a query.
+     *
+     * @param id the id of the course
+     * @param matches the sorted ids matching each word
+     * @return true if every array holds the id
+     */
+    private static boolean matchesAll(int id, List<int[]> matches) {
+        for (int i = 1; i < matches.size(); i++) {
+            if (Arrays.binarySearch(matches.get(i), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the keys a course is found by: its compacted code and number, and each word of its title,
+     * along with the parts of hyphenated words, so "Pre-Calculus" is found by "precalc" and "calc".
+     *
+     * @param course the course
+     * @return the normalized keys, possibly with repeats
+     */
+    private static List<String> keys(CatalogCourse course) {
+        ArrayList<String> keys = new ArrayList<>();
+        keys.add(normalize(course.getCode()));
+        keys.add(normalize(course.getNumber()));
+        for (String word : WORDS.split(course.getTitle())) {
+            keys.add(normalize(word));
+            String[] parts = WORD_PARTS.split(word);
+            if (parts.length > 1) {
+                for (String part : parts) {
+                    keys.add(normalize(part));
+                }
+            }
+        }
+        keys.removeIf(String::isEmpty);
+        return keys;
+    }
+
+    /**
+     * Lower-cases a word and drops everything but letters and digits.
+     *
+     * @param word the word
+     * @return the normalized word, possibly empty
+     */
+    private static String normalize(String word) {
+        StringBuilder normalized = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the position of a term such as "Fall 2023" in time.
+     *
+     * @param term the term
+     * @return a number that increases with time, or {@code Integer.MAX_VALUE} if the term cannot be parsed
+     */
+    private static int termOrder(String term) {
+        String[] parts = WORDS.split(term.trim());
+        if (parts.length != 2 || !SEASONS.contains(parts[0]) || !parts[1].matches("\\d{4}")) {
+            return Integer.MAX_VALUE;
+        }
+        return Integer.parseInt(parts[1]) * SEASONS.size() + SEASONS.indexOf(parts[0]);
+    }
+
+    /**
+     * Merges the rows of the course list, one per offering of a course, into catalog courses.
+     */
+    static final class Builder {
+
+        /**
+         * The offerings of each course, keyed by code and title.
+         */
+        private final Map<String, Offerings> offerings = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an offering of a course.
+         *
+         * @param term the term it was offered in, e.g. "Fall 2023"
+         * @param code the course code
+         * @param title the title it was offered under
+         * @param areas the general education areas it counted toward
+         * @param credits the credits it was worth
+         * @return this builder
+         */
+        Builder add(String term, String code, String title, List<String> areas, double credits) {
+            Offerings course = offerings.computeIfAbsent(code + '\n' + title, k -> new Offerings(code, title));
+            course.terms.add(term);
+            // The latest offering describes the course
+            if (course.latestTerm == null || TERM_ORDER.compare(term, course.latestTerm) >= 0) {
+                course.latestTerm = term;
+                course.areas = areas;
+                course.credits = credits;
+            }
+            return this;
+        }
+
+        /**
+         * Builds the catalog of the courses added so far.
+         *
+         * @return a new catalog
+         */
+        CourseCatalog build() {
+            ArrayList<CatalogCourse> courses = new ArrayList<>(offerings.size());
+            for (Offerings course : offerings.values()) {
+                courses.add(new CatalogCourse(course.code, course.title, course.areas, course.credits,
+                    new ArrayList<>(course.terms)));
+            }
+            return new CourseCatalog(courses);
+        }
+
+        /**
+         * The offerings of one course under one title.
+         */
+        private static final class Offerings {
+            private final String code;
+            private final String title;
+            private final TreeSet<String> terms = new TreeSet<>(TERM_ORDER);
+            private String latestTerm;
+            private List<String> areas = List.of();
+            private double credits;
+
+            private Offerings(String code, String title) {
+                this.code = code;
+                this.title = title;
+            }
+        }
+    }
+
+    /**
+     * A node of the prefix trie: its children, by character, and the sorted ids of the courses with a
+     * key that starts with the node's prefix.
+     */
+    private static final class TrieNode {
+        private char[] chars = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private int[] ids = new int[1];
+        private int count;
+
+        /**
+         * Returns the node of a prefix below this one.
+         *
+         * @param key the prefix, relative to this node
+         * @return the node, or null if no key starts with the prefix
+         */
+        private TrieNode find(String key) {
+            TrieNode node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.chars, key.charAt(i));
+                node = index < 0 ? null : node.children[index];
+            }
+            return node;
+        }
+
+        /**
+         * Returns the child for a character, adding it if there is none.
+         *
+         * @param c the character
+         * @return the child
+         */
+        private TrieNode childOrAdd(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            TrieNode child = new TrieNode();
+            chars = insert(chars, insertion, c);
+            TrieNode[] grown = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, insertion, grown, insertion + 1, children.length - insertion);
+            grown[insertion] = child;
+            children = grown;
+            return child;
+        }
+
+        /**
+         * Adds a course id. Ids are added in increasing order, so a course with several keys under this
+         * node is only added once and the ids stay sorted.
+         *
+         * @param id the course id
+         */
+        private void add(int id) {
+            if (count > 0 && ids[count - 1] == id) return;
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = id;
+        }
+
+        /**
+         * Trims the id arrays of this node and the nodes below it to their counts.
+         */
+        private void trim() {
+            ids = Arrays.copyOf(ids, count);
+            for (TrieNode child : children) {
+                child.trim();
+            }
+        }
+
+        private static char[] insert(char[] chars, int index, char c) {
+            char[] grown = new char[chars.length + 1];
+            System.arraycopy(chars, 0, grown, 0, index);
+            grown[index] = c;
+            System.arraycopy(chars, index, grown, index + 1, chars.length - index);
+            return grown;
+        }
+    }
+}
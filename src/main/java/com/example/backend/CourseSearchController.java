@@ -0,0 +1,65 @@
+package com.example.backend;
+
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for searching the course catalog, so the frontend can autocomplete course codes and
+ * titles without downloading every course.
+ */
+@RestController
+@RequestMapping("/api/courses")
+@CrossOrigin(origins = "*")
+public class CourseSearchController {
+
+    /**
+     * Holds the current catalog snapshot, whose course catalog is searched.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * The largest page of results a client may ask for.
+     */
+    private final int maxPageSize;
+
+    /**
+     * Constructs the controller.
+     *
+     * @param catalogService the service holding the current catalog snapshot
+     * @param maxPageSize the largest page of results a client may ask for
+     */
+    public CourseSearchController(CatalogService catalogService,
+            @Value("${courses.search.max-page-size:100}") int maxPageSize) {
+        this.catalogService = catalogService;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Searches the course catalog for courses whose code, number or title words start with every word
+     * of the query, e.g. {@code /api/courses/search?q=csc+1&page=0&size=20}. The time spent searching
+     * is sent in a Server-Timing header.
+     *
+     * @param query the words to search for; empty matches every course
+     * @param page the zero-based page of results
+     * @param size the number of results per page
+     * @return the page of matching courses and the total number of matches, or 400 if the page or size is out of range
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam(value = "q", defaultValue = "") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > maxPageSize) {
+            return ResponseEntity.badRequest()
+                .body("page must be at least 0 and size between 1 and " + maxPageSize);
+        }
+
+        long start = System.nanoTime();
+        CourseCatalog.SearchPage results = catalogService.current().getCatalog().getCourses().search(query, page, size);
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        return ResponseEntity.ok()
+            .header("Server-Timing", String.format(Locale.ROOT, "search;dur=%.3f", millis))
+            .body(results);
+    }
+}
@@ -42,21 +42,58 @@ public class Driver {
         //generatePlanner("output\\ParsedTranscript.xlsx", majors, minors).printProgress();
     }
 
+    /**
+     * Generates a Student planner from courses parsed directly from a transcript.
+     *
+     * @param courses the courses on the student's transcript
+     * @param majors a list of Concentration objects representing the student's majors
+     * @param minors a list of Concentration objects representing the student's minors
+     * @return a Student object representing the student's academic planner
+     */
+    public static Student generatePlanner(ArrayList<Course> courses, ArrayList<Concentration> majors, ArrayList<Concentration> minors){
+        return new Student(2027, courses, majors, minors);
+    }
+
     /**
      * Generates a Student planner by reading a transcript from an Excel file.
      * It parses the Excel sheet to create a list of Course objects and then constructs a Student.
      *
-     * @param filePath the path to the Excel transcript file
+     * @param transcript the Excel transcript sheet
      * @param majors a list of Concentration objects representing the student's majors
      * @param minors a list of Concentration objects representing the student's minors
      * @return a Student object representing the student's academic planner
      */
     public static Student generatePlanner(Sheet transcript, ArrayList<Concentration> majors, ArrayList<Concentration> minors){
+        return generatePlanner(transcript, majors, minors, TranscriptMetrics.global());
+    }
+
+    /**
+     * Generates a Student planner by reading a transcript from an Excel file, recording the time
+     * spent reading the courses from the sheet.
+     *
+     * @param transcript the Excel transcript sheet
+     * @param majors a list of Concentration objects representing the student's majors
+     * @param minors a list of Concentration objects representing the student's minors
+     * @param metrics the stage metrics to record to
+     * @return a Student object representing the student's academic planner
+     */
+    public static Student generatePlanner(Sheet transcript, ArrayList<Concentration> majors, ArrayList<Concentration> minors, TranscriptMetrics metrics){
         
         //Sheet transcript = new SheetGenerator(filePath).getSheet();
 
+        long start = System.nanoTime();
         ArrayList<Course> courses = new ArrayList<Course>();
 
+        // Resolve each course type column to its attribute bit once, rather than per row
+        long[] columnMasks = new long[COL_TYPE_END + 1];
+        Row header = transcript.getRow(0);
+        for (int i = COL_TYPE_START; i <= COL_TYPE_END; i++) {
+            if (header != null && header.getCell(i) != null) {
+                CourseAttribute attribute = CourseAttribute.fromCode(header.getCell(i).toString());
+                columnMasks[i] = attribute == null ? 0L : attribute.mask();
+            }
+        }
+
         for (Row row : transcript) {
             if(row.getCell(0).toString().contains("-")){
 
@@ -65,7 +102,7 @@ public class Driver {
                 String year;
                 String code;
                 String title;
-                ArrayList<String> types;
+                long types;
                 int credits;
                 String grade;
 
@@ -79,11 +116,11 @@ public class Driver {
 
                 code = row.getCell(0).toString();
                 title = row.getCell(1).toString();
-                types = new ArrayList<>();
+                types = 0L;
 
                 for(int i = COL_TYPE_START; i <= COL_TYPE_END; i++){
                     if(row.getCell(i) != null && row.getCell(i).getCellType() != CellType.BLANK && row.getCell(i).toString().equals("TRUE")){
-                        types.add(transcript.getRow(0).getCell(i).toString());
+                        types |= columnMasks[i];
                     }
                 }
 
@@ -104,9 +141,49 @@ public class Driver {
                 courses.add(course);
             }
         }
+        metrics.record(TranscriptMetrics.Stage.READ_SHEET, 0, courses.size(), System.nanoTime() - start);
+
+        return generatePlanner(courses, majors, minors);
+    }
+
+    /**
+     * Audits a student's courses against their majors and minors, recording the time spent auditing.
+     *
+     * @param student the student to audit
+     * @param metrics the stage metrics to record to
+     * @return a string representing the student's progress
+     */
+    public static String auditProgress(Student student, TranscriptMetrics metrics){
+        return audit(student, null, metrics).toText();
+    }
 
-        Student student = new Student(2027, courses, majors, minors);
+    /**
+     * Audits a student's courses against their majors and minors with an assignment engine, recording the
+     * time spent auditing.
+     *
+     * @param student the student to audit
+     * @param engine the engine assigning courses to requirements, or null to assign them greedily
+     * @param metrics the stage metrics to record to
+     * @return a string representing the student's progress
+     */
+    public static String auditProgress(Student student, AssignmentEngine engine, TranscriptMetrics metrics){
+        return audit(student, engine, metrics).toText();
+    }
 
-        return student;
+    /**
+     * Audits a student's courses against their majors and minors, recording the time spent auditing. The
+     * progress text is not rendered, so neither is its time recorded.
+     *
+     * @param student the student to audit
+     * @param engine the engine assigning courses to requirements, or null to assign them greedily
+     * @param metrics the stage metrics to record to
+     * @return the progress on every requirement
+     */
+    public static AuditResult audit(Student student, AssignmentEngine engine, TranscriptMetrics metrics){
+        long start = System.nanoTime();
+        AuditResult result = student.audit(engine);
+        int courses = student.getCourses() == null ? 0 : student.getCourses().size();
+        metrics.record(TranscriptMetrics.Stage.AUDIT, 0, courses, System.nanoTime() - start);
+        return result;
     }
 }
\ No newline at end of file
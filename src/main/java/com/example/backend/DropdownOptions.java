@@ -0,0 +1,73 @@
+package com.example.backend;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The DropdownOptions class holds the majors ("dropdown1") and minors ("dropdown2") offered for
+ * selection, serialized to JSON once per catalog snapshot, with a strong ETag derived from the bytes.
+ * Serving the options then only writes out a shared byte array, and clients holding the same ETag are answered
+ * with 304 Not Modified.
+ */
+public final class DropdownOptions {
+
+    /**
+     * The options as a JSON object of two string arrays.
+     */
+    private final byte[] body;
+
+    /**
+     * The quoted strong entity tag of the body.
+     */
+    private final String eTag;
+
+    /**
+     * Constructs the options from their serialized form.
+     *
+     * @param body the serialized options
+     */
+    private DropdownOptions(byte[] body) {
+        this.body = body;
+        this.eTag = "\"" + TranscriptCache.sha256(body) + "\"";
+    }
+
+    /**
+     * Serializes the majors and minors offered by a catalog.
+     *
+     * @param catalog the requirement catalog
+     * @param mapper the mapper to serialize the options with
+     * @return the serialized options
+     */
+    public static DropdownOptions of(RequirementCatalog catalog, ObjectMapper mapper) {
+        Map<String, List<String>> options = new LinkedHashMap<>();
+        options.put("dropdown1", catalog.getMajorNames());
+        options.put("dropdown2", catalog.getMinorNames());
+        try {
+            return new DropdownOptions(mapper.writeValueAsBytes(options));
+        } catch (JsonProcessingException e) {
+            // Lists of strings always serialize
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the serialized options. The array is shared and must not be modified.
+     *
+     * @return the options as UTF-8 JSON
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the strong entity tag of the serialized options, including its quotes.
+     *
+     * @return the ETag header value
+     */
+    public String getETag() {
+        return eTag;
+    }
+}
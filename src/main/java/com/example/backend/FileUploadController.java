@@ -1,17 +1,22 @@
 package com.example.backend;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.HashMap;
 import java.util.Map;
-
-import org.apache.poi.ss.usermodel.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * REST controller for handling file uploads and student-related API endpoints.
@@ -28,78 +33,187 @@ public class FileUploadController {
      */
     private static Student currentStudent;
 
-    private static Sheet sheet;
+    /**
+     * The courses parsed from the most recently uploaded transcript.
+     */
+    private static volatile ArrayList<Course> courses;
 
     /**
-     * Handles the upload of a PDF file, saves it temporarily, and processes it using PDFParser.
-     *
-     * @param file the uploaded MultipartFile
-     * @return a message indicating whether the file was processed successfully or an error occurred
+     * Caches parsed transcripts by the hash of their PDF bytes.
      */
-    @PostMapping("/upload")
-    public String handleFileUpload(@RequestParam("file") MultipartFile file) {
-        try {
-            // Save the file temporarily
-            String uploadDir = System.getProperty("user.dir") + "/uploads/";
-            File dir = new File(uploadDir);
-            if (!dir.exists()) dir.mkdirs(); // Create directory if not exists
+    private final TranscriptCache transcriptCache;
 
-            File savedFile = new File(uploadDir + file.getOriginalFilename());
-            file.transferTo(savedFile);
+    /**
+     * Runs transcript parses on a bounded pool, away from the request threads.
+     */
+    private final TranscriptParseExecutor parseExecutor;
+
+    /**
+     * The size limits uploaded transcripts are checked against.
+     */
+    private final TranscriptLoadLimits limits;
 
-            // Process the uploaded PDF using PDFParser
-            sheet = PDFParser.processPDF(savedFile.getAbsolutePath());
+    /**
+     * Exports parsed transcripts in the background, when enabled.
+     */
+    private final TranscriptExportService exportService;
 
-            return "File processed successfully: " + file.getOriginalFilename();
-        } catch (IOException e) {
-            return "File upload failed: " + e.getMessage();
-        } catch (Exception e) {
-            return "Error processing file: " + e.getMessage();
-        }
-    }
-    
     /**
-     * Retrieves dropdown options for majors and minors from Excel files.
-     *
-     * @return a map containing two lists: one for majors ("dropdown1") and one for minors ("dropdown2")
+     * Archives the original uploaded PDFs in the background, when enabled.
      */
-    @GetMapping("/dropdown-options")
-    public Map<String, List<String>> getDropdownOptions() {
-        InputStream majorStream = getClass().getClassLoader().getResourceAsStream("Major-List.xlsx");
-        InputStream minorStream = getClass().getClassLoader().getResourceAsStream("Minor-List.xlsx");
+    private final UploadArchiveService archiveService;
 
-        if (majorStream == null || minorStream == null) {
-            throw new RuntimeException("Excel files not found in resources folder!");
-        }
+    /**
+     * The stage metrics audits are recorded to.
+     */
+    private final TranscriptMetrics metrics;
 
-        Sheet majors = new SheetGenerator(majorStream).getSheet();
-        Sheet minors = new SheetGenerator(minorStream).getSheet();
+    /**
+     * Holds the current snapshot of the requirement catalog and its dropdown options.
+     */
+    private final CatalogService catalogService;
 
+    /**
+     * The Cache-Control header sent with the dropdown options.
+     */
+    private final CacheControl dropdownCacheControl;
 
-        ArrayList<String> majorList = new ArrayList<>();
+    /**
+     * The engine assigning courses to requirements when a progress request asks for matching.
+     */
+    private final AssignmentEngine assignmentEngine;
 
-        for(Row row : majors) {
-            majorList.add(row.getCell(0).toString());
-        }
+    /**
+     * Whether progress requests use the assignment engine unless they ask otherwise.
+     */
+    private final boolean matchingByDefault;
+
+    /**
+     * Constructs the controller.
+     *
+     * @param transcriptCache the cache of parsed transcripts
+     * @param parseExecutor the executor transcripts are parsed on
+     * @param limits the size limits uploaded transcripts are checked against
+     * @param exportService the service exporting parsed transcripts
+     * @param archiveService the service archiving uploaded PDFs
+     * @param metrics the stage metrics audits are recorded to
+     * @param catalogService the service holding the current catalog snapshot
+     * @param dropdownMaxAge how long clients may reuse the dropdown options without revalidating
+     * @param auditEngine the engine progress requests use by default, "greedy" or "matching"
+     * @param matchingTimeBudget how long the matching engine searches for an assignment of one concentration
+     */
+    public FileUploadController(TranscriptCache transcriptCache, TranscriptParseExecutor parseExecutor,
+            TranscriptLoadLimits limits, TranscriptExportService exportService, UploadArchiveService archiveService,
+            TranscriptMetrics metrics, CatalogService catalogService,
+            @Value("${dropdown.options.max-age:5m}") Duration dropdownMaxAge,
+            @Value("${audit.engine:greedy}") String auditEngine,
+            @Value("${audit.matching.time-budget:50ms}") Duration matchingTimeBudget) {
+        this.limits = limits;
+        this.transcriptCache = transcriptCache;
+        this.parseExecutor = parseExecutor;
+        this.exportService = exportService;
+        this.archiveService = archiveService;
+        this.metrics = metrics;
+        this.catalogService = catalogService;
+        this.dropdownCacheControl = CacheControl.maxAge(dropdownMaxAge).cachePublic();
+        this.assignmentEngine = new AssignmentEngine(matchingTimeBudget);
+        this.matchingByDefault = isMatching(auditEngine);
+    }
 
-        ArrayList<String> minorList = new ArrayList<>();
+    /**
+     * Handles the upload of a PDF file and processes it in memory using PDFParser.
+     * Uploads below {@code spring.servlet.multipart.file-size-threshold} never touch disk;
+     * the original PDF is only persisted when upload archiving is enabled.
+     * Parsing runs on the bounded parse executor rather than the request thread; when its queue
+     * is full the upload is answered at once with 503 and a Retry-After header. Transcripts over the
+     * byte or page limit are answered with 413.
+     *
+     * @param file the uploaded MultipartFile
+     * @return a future of the response, with a message indicating whether the file was processed successfully or an error occurred
+     */
+    @PostMapping("/upload")
+    public CompletableFuture<ResponseEntity<String>> handleFileUpload(@RequestParam("file") MultipartFile file) {
+        String filename = file.getOriginalFilename();
+        byte[] pdf;
+        try {
+            // Reject oversized uploads before buffering them
+            limits.checkSize(file.getSize());
 
-        for(Row row : minors) {
-            minorList.add(row.getCell(0).toString());
+            // Read the upload before handing off, as the multipart part is cleaned up with the request
+            pdf = file.getBytes();
+        } catch (TranscriptTooLargeException e) {
+            return CompletableFuture.completedFuture(tooLarge(e));
+        } catch (IOException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("File upload failed: " + e.getMessage()));
         }
+
+        CompletableFuture<ArrayList<Course>> parse;
+        try {
+            // Parse the uploaded PDF straight into courses, reusing an earlier parse of the same bytes
+            parse = parseExecutor.submit(() -> transcriptCache.getCourses(pdf));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(parseExecutor.getRetryAfterSeconds()))
+                .body("Too many transcripts are being processed, please try again shortly."));
+        }
+
+        return parse.handle((parsed, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof TranscriptTooLargeException tooLarge) {
+                    return tooLarge(tooLarge);
+                }
+                if (cause instanceof IOException) {
+                    return ResponseEntity.ok("File upload failed: " + cause.getMessage());
+                }
+                return ResponseEntity.ok("Error processing file: " + cause.getMessage());
+            }
+
+            // The sheet export and archive run in the background
+            courses = parsed;
+            exportService.export(parsed);
+            archiveService.archive(filename, pdf);
+
+            return ResponseEntity.ok("File processed successfully: " + filename);
+        });
+    }
     
-        Map<String, List<String>> options = new HashMap<>();
-        options.put("dropdown1", majorList);
-        options.put("dropdown2", minorList);
-    
-        return options;
+    /**
+     * Builds the response for a transcript over the byte or page limit.
+     *
+     * @param e the exception describing the limit that was exceeded
+     * @return a 413 response with the reason
+     */
+    private static ResponseEntity<String> tooLarge(TranscriptTooLargeException e) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("File upload failed: " + e.getMessage());
+    }
+
+    /**
+     * Retrieves the majors and minors offered for selection. The options are serialized once per
+     * catalog snapshot and sent with a strong ETag and Cache-Control, so a request carrying a
+     * matching If-None-Match header is answered with 304 Not Modified and no body until the
+     * catalog is reloaded with different concentrations.
+     *
+     * @return the options as a JSON object with the majors ("dropdown1") and minors ("dropdown2")
+     */
+    @GetMapping("/dropdown-options")
+    public ResponseEntity<byte[]> getDropdownOptions() {
+        DropdownOptions dropdownOptions = catalogService.current().getDropdownOptions();
+        return ResponseEntity.ok()
+            .eTag(dropdownOptions.getETag())
+            .cacheControl(dropdownCacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(dropdownOptions.getBody());
     }
 
     /**
      * Handles the submission of selected major and minor concentrations.
      * It creates Concentration objects based on the selections and generates a Student planner.
+     * AP exams the student reports are looked up in the catalog's AP equivalencies, and the courses
+     * they stand in for are added to the transcript before it is audited.
      *
-     * @param selections a map containing lists of selected majors ("dropdown1") and minors ("dropdown2")
+     * @param selections a map containing lists of selected majors ("dropdown1") and minors ("dropdown2"),
+     *                   and optionally the AP exams taken ("apExams"), each as "exam, score"
      * @return a confirmation message indicating successful receipt of selections
      */
     @PostMapping("/submit-selections")
@@ -107,6 +221,7 @@ public class FileUploadController {
         // Get the lists from the JSON payload
         List<String> selectedDropdown1 = selections.get("dropdown1");
         List<String> selectedDropdown2 = selections.get("dropdown2");
+        List<String> selectedApExams = selections.get("apExams");
 
         // Treat missing keys as empty selections to prevent a NullPointerException.
         if (selectedDropdown1 == null) {
@@ -115,19 +230,32 @@ public class FileUploadController {
         if (selectedDropdown2 == null) {
             selectedDropdown2 = new ArrayList<>();
         }
+        if (selectedApExams == null) {
+            selectedApExams = new ArrayList<>();
+        }
+
+        List<ApCreditTable.Exam> apExams;
+        try {
+            apExams = ApCreditTable.Exam.parseAll(selectedApExams);
+        } catch (IllegalArgumentException e) {
+            return "Invalid AP exam: " + e.getMessage();
+        }
 
         System.out.println("Received selections:");
         System.out.println("Dropdown 1: " + selectedDropdown1);
         System.out.println("Dropdown 2: " + selectedDropdown2);
 
+        // Look every selection up in the same snapshot, even if the catalog is reloaded meanwhile
+        RequirementCatalog catalog = catalogService.current().getCatalog();
+
         ArrayList<Concentration> majors = new ArrayList<>();
         for (String str : selectedDropdown1) {
-            majors.add(new Concentration(false, str));
+            majors.add(new Concentration(false, str, catalog));
         }
 
         ArrayList<Concentration> minors = new ArrayList<>();
         for (String str : selectedDropdown2) {
-            minors.add(new Concentration(true, str));
+            minors.add(new Concentration(true, str, catalog));
         }
 
         // Store the generated Student object
@@ -141,7 +269,13 @@ public class FileUploadController {
         // }
 
 
-        currentStudent = Driver.generatePlanner(sheet, majors, minors);
+        ArrayList<Course> transcript = courses;
+        if (!apExams.isEmpty()) {
+            List<Course> parsed = transcript != null ? transcript : List.of();
+            transcript = catalog.getApCredits().apply(apExams, parsed).addTo(parsed);
+        }
+
+        currentStudent = Driver.generatePlanner(transcript, majors, minors);
 
         return "Selections received successfully!";
     }
@@ -149,16 +283,66 @@ public class FileUploadController {
     /**
      * Retrieves the student's academic progress.
      *
+     * @param engine "greedy" or "matching" to choose how courses are assigned to requirements, or null for
+     *               the configured {@code audit.engine}
      * @return a string representing the student's progress, or a message if no student data is available
      */
     @GetMapping("/student-progress")
-    public String getStudentProgress() {
+    public String getStudentProgress(@RequestParam(value = "engine", required = false) String engine) {
         // Assuming the Student object was created in handleSelections()
         if (currentStudent == null) {
             return "No student data available. Please submit your selections first.";
         }
 
-        return currentStudent.getProgressString();
+        boolean matching;
+        try {
+            matching = engine == null ? matchingByDefault : isMatching(engine);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage() + ". Use greedy or matching.";
+        }
+        return Driver.auditProgress(currentStudent, matching ? assignmentEngine : null, metrics);
+    }
+
+    /**
+     * Retrieves the student's academic progress as JSON: the status of each requirement, the courses
+     * fulfilling it and what is still needed, without the progress text.
+     *
+     * @param engine "greedy" or "matching" to choose how courses are assigned to requirements, or null for
+     *               the configured {@code audit.engine}
+     * @return the progress on every requirement, 404 if no student data is available, or 400 for an
+     *         unknown engine
+     */
+    @GetMapping(value = "/student-progress/result", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AuditResult> getStudentProgressResult(
+            @RequestParam(value = "engine", required = false) String engine) {
+        if (currentStudent == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean matching;
+        try {
+            matching = engine == null ? matchingByDefault : isMatching(engine);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(Driver.audit(currentStudent, matching ? assignmentEngine : null, metrics));
+    }
+
+    /**
+     * Returns whether an audit engine name selects the matching engine.
+     *
+     * @param engine "matching" or "greedy", in any case
+     * @return true for "matching", false for "greedy"
+     * @throws IllegalArgumentException if the name is neither
+     */
+    private static boolean isMatching(String engine) {
+        if (engine.equalsIgnoreCase("matching")) {
+            return true;
+        }
+        if (engine.equalsIgnoreCase("greedy")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown audit engine: " + engine);
     }
 
     @GetMapping("/debug-file")
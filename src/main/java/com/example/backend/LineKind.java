@@ -0,0 +1,27 @@
+package com.example.backend;
+
+/**
+ * The kinds of line that can appear in the text of a transcript.
+ */
+public enum LineKind {
+
+    /**
+     * A course line, beginning with a course code such as {@code CSC 105}.
+     */
+    COURSE,
+
+    /**
+     * A term header, such as {@code Fall Term 2023}.
+     */
+    TERM_HEADER,
+
+    /**
+     * A standalone course type that belongs to the preceding course line, such as {@code SOCS}.
+     */
+    COURSE_TYPE,
+
+    /**
+     * Any other line, which is not needed to build the transcript.
+     */
+    OTHER
+}
@@ -4,8 +4,11 @@ import java.io.*;
 import java.util.*;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The PDFParser class processes a PDF transcript file to extract course information,
@@ -13,9 +16,14 @@ import org.apache.poi.ss.usermodel.*;
  */
 public class PDFParser {
 
+    private static final Logger log = LoggerFactory.getLogger(PDFParser.class);
+
     // Magic number constant for splitting columns
     private static final int COLUMN_SPLIT_INDEX = 69;
 
+    // Form feed separating printed pages within the text of a single PDF page
+    private static final String PRINTED_PAGE_SEPARATOR = "\f";
+
     // Constants for course line parsing when term is present
     private static final int COURSE_WITH_TERM_COURSE_CODE_START = 0;
     private static final int COURSE_WITH_TERM_COURSE_CODE_END = 9;
@@ -45,52 +53,14 @@ public class PDFParser {
     private static final int COL_TERM = 4;
     private static final int COL_GRADE = 5;
     private static final int COL_WAC = 6;
-    private static final int COL_WACR = 7;
-    private static final int COL_WS = 8;
-    private static final int COL_JCAD = 9;
-    private static final int COL_GCAD = 10;
-    private static final int COL_JDQR = 11;
-    private static final int COL_GDQR = 12;
-    private static final int COL_JLIT = 13;
-    private static final int COL_GLIT = 14;
-    private static final int COL_JSPE = 15;
-    private static final int COL_GSPE = 16;
-    private static final int COL_JCHF = 17;
-    private static final int COL_GCHF = 18;
-    private static final int COL_JETS = 19;
-    private static final int COL_GETS = 20;
-    private static final int COL_JNPS = 21;
-    private static final int COL_GNPS = 22;
-    private static final int COL_JWOL = 23;
-    private static final int COL_GWOL = 24;
-    private static final int COL_HUL = 25;
-    private static final int COL_HUM = 26;
-    private static final int COL_LCC = 27;
-    private static final int COL_SCLB = 28;
-    private static final int COL_QMR = 29;
-    private static final int COL_SET = 30;
-    private static final int COL_SOCS = 31;
     private static final int FIRST_DATA_ROW_INDEX = 1;
 
-    // Constants for term header conversion
-    private static final int TERM_HEADER_YEAR_PART_END = 17;
-    private static final int TERM_YEAR_SUFFIX_LENGTH = 2;
-    private static final int TERM_CODE_END_INDEX = 2;
-
-    // Constants for regex patterns
-    private static final int COURSE_LINE_LETTER_COUNT = 3;
-    private static final int COURSE_LINE_DIGIT_COUNT = 3;
-    private static final String COURSE_LINE_REGEX =
-        "^[A-Z]{" + COURSE_LINE_LETTER_COUNT + "} \\d{" + COURSE_LINE_DIGIT_COUNT + "}[A-Z]? .*";
+    // Number of rows the streaming sheet writer keeps in memory
+    private static final int STREAMING_ROW_WINDOW = 100;
 
-    private static final int TERM_YEAR_DIGIT_COUNT = 4;
-    private static final String TERM_HEADER_REGEX =
-        ".*Term \\d{" + TERM_YEAR_DIGIT_COUNT + "}.*";
-
-    private static final int COURSE_TYPE_MIN_LENGTH = 3;
-    private static final int COURSE_TYPE_MAX_LENGTH = 6;
-    private static final String COURSE_TYPE_REGEX =
-        "^[A-Z-]{" + COURSE_TYPE_MIN_LENGTH + "," + COURSE_TYPE_MAX_LENGTH + "}$";
+    // Constants for term header conversion
+    private static final int TERM_CODE_YEAR_END = 2;
+    private static final int TERM_CODE_TERM_START = 3;
 
     /**
      * Main method to run the PDFParser independently.
@@ -108,29 +78,64 @@ public class PDFParser {
      * @param path the path to the PDF file
      */
     public static Sheet processPDF(String path) {
+        return processPDF(path, TranscriptMetrics.global());
+    }
+
+    /**
+     * Processes a PDF file like {@link #processPDF(String)}, recording the time spent in each stage.
+     *
+     * @param path the path to the PDF file
+     * @param metrics the stage metrics to record to
+     * @return the constructed transcript sheet, or null if the file could not be read
+     */
+    public static Sheet processPDF(String path, TranscriptMetrics metrics) {
         try {
-            File file = new File(path);
-            PDDocument document = PDDocument.load(file);
-            PDFTextStripper pdfStripper = new PDFTextStripper();
-            String text = pdfStripper.getText(document);
-            document.close();
+            long start = System.nanoTime();
+            String text;
+            int pages;
+            long loaded;
+            try (PDDocument document = TranscriptLoadLimits.defaults().load(new File(path))) {
+                loaded = System.nanoTime();
+                pages = document.getNumberOfPages();
+                text = new PDFTextStripper().getText(document);
+            }
+            long stripped = System.nanoTime();
 
             // Process text and reorder columns correctly
             List<String> firstColumnLines = new ArrayList<>();
             List<String> secondColumnLines = new ArrayList<>();
             reorderColumns(text, firstColumnLines, secondColumnLines);
+            long reordered = System.nanoTime();
 
             // Keep only necessary lines
             firstColumnLines = filterNecessaryLines(firstColumnLines);
             secondColumnLines = filterNecessaryLines(secondColumnLines);
+            long filtered = System.nanoTime();
 
             // Associate standalone course types with their courses
             firstColumnLines = associateCourseTypes(firstColumnLines);
             secondColumnLines = associateCourseTypes(secondColumnLines);
 
             firstColumnLines.addAll(secondColumnLines);
+            long associated = System.nanoTime();
 
-            return constructSheet(firstColumnLines);
+            Workbook workbook = new XSSFWorkbook();
+            Sheet sheet = createTranscriptSheet(workbook);
+            int courses = fillSheet(sheet, firstColumnLines);
+            long built = System.nanoTime();
+
+            writeWorkbook(workbook);
+            long written = System.nanoTime();
+
+            metrics.record(TranscriptMetrics.Stage.LOAD, pages, courses, loaded - start);
+            metrics.record(TranscriptMetrics.Stage.STRIP, pages, courses, stripped - loaded);
+            metrics.record(TranscriptMetrics.Stage.REORDER, pages, courses, reordered - stripped);
+            metrics.record(TranscriptMetrics.Stage.FILTER, pages, courses, filtered - reordered);
+            metrics.record(TranscriptMetrics.Stage.ASSOCIATE, pages, courses, associated - filtered);
+            metrics.record(TranscriptMetrics.Stage.SHEET, pages, courses, built - associated);
+            metrics.record(TranscriptMetrics.Stage.WRITE, pages, courses, written - built);
+
+            return sheet;
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -138,6 +143,203 @@ public class PDFParser {
         }
     }
 
+    /**
+     * Processes a PDF file one page at a time, pushing each page's lines through the reorder, filter,
+     * and associate steps as they are extracted, then constructs an in-memory Excel sheet from the result.
+     * Extraction stops once the end of the transcript has been seen. The loaded document, the tokens of
+     * every page read so far, and the finished sheet are all held in memory; only the extracted text is
+     * limited to a single page at a time.
+     *
+     * @param path the path to the PDF file
+     * @return the constructed transcript sheet, or null if the file could not be read
+     */
+    public static Sheet processPDFStreaming(String path) {
+        try {
+            return constructCourseSheet(parseCourses(path));
+        } catch (IOException e) {
+            log.warn("Could not read transcript {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Parses a PDF transcript directly into Course objects, without building an intermediate sheet.
+     *
+     * @param path the path to the PDF file
+     * @return the courses on the transcript, in transcript order
+     * @throws IOException if the PDF cannot be read
+     */
+    public static ArrayList<Course> parseCourses(String path) throws IOException {
+        try (PDDocument document = TranscriptLoadLimits.defaults().load(new File(path))) {
+            return parseCourses(document);
+        }
+    }
+
+    /**
+     * Parses a PDF transcript held in memory directly into Course objects, without writing it to disk.
+     *
+     * @param pdf the contents of the PDF file
+     * @return the courses on the transcript, in transcript order
+     * @throws IOException if the PDF cannot be read
+     */
+    public static ArrayList<Course> parseCourses(byte[] pdf) throws IOException {
+        return parseCourses(pdf, TranscriptLoadLimits.defaults());
+    }
+
+    /**
+     * Parses a PDF transcript held in memory directly into Course objects, within the given load limits.
+     * The document is closed whether or not parsing succeeds.
+     *
+     * @param pdf the contents of the PDF file
+     * @param limits the memory budget and size limits to load the PDF with
+     * @return the courses on the transcript, in transcript order
+     * @throws TranscriptTooLargeException if the PDF exceeds the byte or page limit
+     * @throws IOException if the PDF cannot be read
+     */
+    public static ArrayList<Course> parseCourses(byte[] pdf, TranscriptLoadLimits limits) throws IOException {
+        return parseCourses(pdf, limits, TranscriptMetrics.global());
+    }
+
+    /**
+     * Parses a PDF transcript held in memory directly into Course objects, within the given load limits,
+     * recording the time spent loading the document, extracting its columns and building the courses.
+     * The document is closed whether or not parsing succeeds.
+     *
+     * @param pdf the contents of the PDF file
+     * @param limits the memory budget and size limits to load the PDF with
+     * @param metrics the stage metrics to record to
+     * @return the courses on the transcript, in transcript order
+     * @throws TranscriptTooLargeException if the PDF exceeds the byte or page limit
+     * @throws IOException if the PDF cannot be read
+     */
+    public static ArrayList<Course> parseCourses(byte[] pdf, TranscriptLoadLimits limits, TranscriptMetrics metrics) throws IOException {
+        long start = System.nanoTime();
+        try (PDDocument document = limits.load(pdf)) {
+            long loaded = System.nanoTime();
+            int pages = document.getNumberOfPages();
+            List<TranscriptToken> tokens = streamRegionTokens(document, 1, pages);
+            long extracted = System.nanoTime();
+            ArrayList<Course> courses = buildCourses(tokens);
+            long built = System.nanoTime();
+
+            metrics.record(TranscriptMetrics.Stage.LOAD, pages, courses.size(), loaded - start);
+            metrics.record(TranscriptMetrics.Stage.EXTRACT, pages, courses.size(), extracted - loaded);
+            metrics.record(TranscriptMetrics.Stage.BUILD, pages, courses.size(), built - extracted);
+            return courses;
+        }
+    }
+
+    /**
+     * Parses a loaded PDF transcript directly into Course objects, extracting one page at a time.
+     *
+     * @param document the loaded PDF document
+     * @return the courses on the transcript, in transcript order
+     * @throws IOException if the text of a page cannot be extracted
+     */
+    public static ArrayList<Course> parseCourses(PDDocument document) throws IOException {
+        return buildCourses(streamRegionTokens(document, 1, document.getNumberOfPages()));
+    }
+
+    /**
+     * Extracts the transcript columns of the given page range from glyph positions, one page at a time,
+     * and returns the classified transcript tokens. Only the column regions below each column header row
+     * are read. Pages without a column header row fall back to text extraction.
+     *
+     * @param document the loaded PDF document
+     * @param startPage the first page to extract (1-based, inclusive)
+     * @param endPage the last page to extract (1-based, inclusive)
+     * @return a list of term header and course tokens, with course types attached to their courses
+     * @throws IOException if a page cannot be read
+     * @see TranscriptRegionExtractor
+     */
+    public static List<TranscriptToken> streamRegionTokens(PDDocument document, int startPage, int endPage) throws IOException {
+        TranscriptRegionExtractor extractor = new TranscriptRegionExtractor();
+        PDFTextStripper pdfStripper = null;
+        TranscriptLineStream stream = new TranscriptLineStream();
+
+        for (int page = startPage; page <= endPage && !stream.isComplete(); page++) {
+            if (!extractor.extractPage(document, page, stream)) {
+                if (pdfStripper == null) {
+                    pdfStripper = new PDFTextStripper();
+                }
+                pdfStripper.setStartPage(page);
+                pdfStripper.setEndPage(page);
+                reorderPage(pdfStripper.getText(document), stream);
+            }
+        }
+
+        return stream.getTokens();
+    }
+
+    /**
+     * Extracts the given page range one page at a time and returns the classified transcript tokens.
+     * Within each page, the first column is streamed before the second, so term headers carry over
+     * correctly from one column and page to the next.
+     *
+     * @param document the loaded PDF document
+     * @param startPage the first page to extract (1-based, inclusive)
+     * @param endPage the last page to extract (1-based, inclusive)
+     * @return a list of term header and course tokens, with course types attached to their courses
+     * @throws IOException if the text of a page cannot be extracted
+     */
+    public static List<TranscriptToken> streamTokens(PDDocument document, int startPage, int endPage) throws IOException {
+        PDFTextStripper pdfStripper = new PDFTextStripper();
+        TranscriptLineStream stream = new TranscriptLineStream();
+
+        for (int page = startPage; page <= endPage && !stream.isComplete(); page++) {
+            pdfStripper.setStartPage(page);
+            pdfStripper.setEndPage(page);
+            reorderPage(pdfStripper.getText(document), stream);
+        }
+
+        return stream.getTokens();
+    }
+
+    /**
+     * Splits a single page of text into its two columns and pushes them into the stream,
+     * first column before second column. Form feeds within the page text start a new printed page.
+     *
+     * @param pageText the text extracted from a single page
+     * @param stream the stream receiving the column lines
+     */
+    public static void reorderPage(String pageText, TranscriptLineStream stream) {
+        for (String printedPage : pageText.split(PRINTED_PAGE_SEPARATOR)) {
+            reorderPrintedPage(printedPage, stream);
+        }
+    }
+
+    /**
+     * Splits a single printed page into its two columns and pushes them into the stream.
+     *
+     * @param pageText the text of a single printed page
+     * @param stream the stream receiving the column lines
+     */
+    private static void reorderPrintedPage(String pageText, TranscriptLineStream stream) {
+        List<String> secondColumn = new ArrayList<>();
+
+        pageText.lines().forEach(line -> {
+            if (line.length() > COLUMN_SPLIT_INDEX) {
+                String firstPart = line.substring(0, COLUMN_SPLIT_INDEX).trim();
+                String secondPart = line.substring(COLUMN_SPLIT_INDEX).trim();
+
+                if (!firstPart.isEmpty()) {
+                    stream.accept(firstPart);
+                }
+                if (!secondPart.isEmpty()) {
+                    secondColumn.add(secondPart);
+                }
+            } else {
+                stream.accept(line.trim());
+            }
+        });
+        stream.endColumn();
+
+        for (String line : secondColumn) {
+            stream.accept(line);
+        }
+        stream.endColumn();
+    }
+
     /**
      * Reorders the text columns from the PDF by splitting each line at a fixed index.
      *
@@ -229,18 +431,18 @@ public class PDFParser {
                 currentTerm = line.trim();
                 currentTermCode = convertTermToCode(currentTerm);
             } else if (isCourseLine(line) && currentTermCode != null) {
-                String courseCode = line.substring(COURSE_WITH_TERM_COURSE_CODE_START, COURSE_WITH_TERM_COURSE_CODE_END).trim();
-                String title = line.substring(COURSE_WITH_TERM_TITLE_START, COURSE_WITH_TERM_TITLE_END).trim();
-                String grade = line.substring(COURSE_WITH_TERM_GRADE_START, COURSE_WITH_TERM_GRADE_END).trim();
-                String credits = line.substring(COURSE_WITH_TERM_CREDITS_START, COURSE_WITH_TERM_CREDITS_END).trim();
+                String courseCode = field(line, COURSE_WITH_TERM_COURSE_CODE_START, COURSE_WITH_TERM_COURSE_CODE_END);
+                String title = field(line, COURSE_WITH_TERM_TITLE_START, COURSE_WITH_TERM_TITLE_END);
+                String grade = field(line, COURSE_WITH_TERM_GRADE_START, COURSE_WITH_TERM_GRADE_END);
+                String credits = field(line, COURSE_WITH_TERM_CREDITS_START, COURSE_WITH_TERM_CREDITS_END);
                 String types = line.length() > COURSE_WITH_TERM_TYPES_START ? line.substring(COURSE_WITH_TERM_TYPES_START).trim().replace(" ", ", ") : "N/A";
                 types = types.replace("WAC-", "WAC-R");
                 
                 System.out.println(courseCode + ";" + title + ";" + grade + ";" + credits + ";" + types + ";" + currentTermCode);
             } else if (isCourseLine(line) && currentTermCode == null){
-                String courseCode = line.substring(COURSE_WITHOUT_TERM_COURSE_CODE_START, COURSE_WITHOUT_TERM_COURSE_CODE_END).trim();
-                String title = line.substring(COURSE_WITHOUT_TERM_TITLE_START, COURSE_WITHOUT_TERM_TITLE_END).trim();
-                String credits = line.substring(COURSE_WITHOUT_TERM_CREDITS_START, COURSE_WITHOUT_TERM_CREDITS_END).trim();
+                String courseCode = field(line, COURSE_WITHOUT_TERM_COURSE_CODE_START, COURSE_WITHOUT_TERM_COURSE_CODE_END);
+                String title = field(line, COURSE_WITHOUT_TERM_TITLE_START, COURSE_WITHOUT_TERM_TITLE_END);
+                String credits = field(line, COURSE_WITHOUT_TERM_CREDITS_START, COURSE_WITHOUT_TERM_CREDITS_END);
                 String types = line.length() > COURSE_WITHOUT_TERM_TYPES_START ? line.substring(COURSE_WITHOUT_TERM_TYPES_START).trim().replace(" ", ", ") : "N/A";
                 types = types.replace("WAC-", "WAC-R");
                 
@@ -257,137 +459,250 @@ public class PDFParser {
      */
     public static Sheet constructSheet(List<String> lines) {
         Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("transcript");
+        Sheet sheet = createTranscriptSheet(workbook);
+        fillSheet(sheet, lines);
 
-        Row row = sheet.createRow(HEADER_ROW_INDEX);
-        row.createCell(COL_COURSE_NAME).setCellValue("Course Name");
-        row.createCell(COL_TITLE).setCellValue("Title");
-        row.createCell(COL_COURSE_STATUS).setCellValue("Course Status");
-        row.createCell(COL_CREDITS).setCellValue("Credits");
-        row.createCell(COL_TERM).setCellValue("Term");
-        row.createCell(COL_GRADE).setCellValue("Grade");
-        row.createCell(COL_WAC).setCellValue("WAC");
-        row.createCell(COL_WACR).setCellValue("WAC-R");
-        row.createCell(COL_WS).setCellValue("WS");
-        row.createCell(COL_JCAD).setCellValue("JCAD");
-        row.createCell(COL_GCAD).setCellValue("GCAD");
-        row.createCell(COL_JDQR).setCellValue("JDQR");
-        row.createCell(COL_GDQR).setCellValue("GDQR");
-        row.createCell(COL_JLIT).setCellValue("JLIT");
-        row.createCell(COL_GLIT).setCellValue("GLIT");
-        row.createCell(COL_JSPE).setCellValue("JSPE");
-        row.createCell(COL_GSPE).setCellValue("GSPE");
-        row.createCell(COL_JCHF).setCellValue("JCHF");
-        row.createCell(COL_GCHF).setCellValue("GCHF");
-        row.createCell(COL_JETS).setCellValue("JETS");
-        row.createCell(COL_GETS).setCellValue("GETS");
-        row.createCell(COL_JNPS).setCellValue("JNPS");
-        row.createCell(COL_GNPS).setCellValue("GNPS");
-        row.createCell(COL_JWOL).setCellValue("JWOL");
-        row.createCell(COL_GWOL).setCellValue("GWOL");
-        row.createCell(COL_HUL).setCellValue("HUL");
-        row.createCell(COL_HUM).setCellValue("HUM");
-        row.createCell(COL_LCC).setCellValue("LCC");
-        row.createCell(COL_SCLB).setCellValue("SCLB");
-        row.createCell(COL_QMR).setCellValue("QMR");
-        row.createCell(COL_SET).setCellValue("SET");
-        row.createCell(COL_SOCS).setCellValue("SOCS");
+        writeWorkbook(workbook);
+
+        return sheet;
+    }
 
+    /**
+     * Fills a transcript sheet with a row for each course in a list of parsed lines.
+     *
+     * @param sheet the transcript sheet, with its header row already written
+     * @param lines the list of parsed lines representing transcript data
+     * @return the number of course rows written
+     */
+    private static int fillSheet(Sheet sheet, List<String> lines) {
         String currentTerm = null;
         String currentTermCode = null;
         int currentRow = FIRST_DATA_ROW_INDEX;
+        int courses = 0;
 
         for (String line : lines) {
-            row = sheet.createRow(currentRow);
+            Row row = sheet.createRow(currentRow);
 
             if (isTermHeader(line)) {
                 currentTerm = line.trim();
                 currentTermCode = convertTermToCode(currentTerm);
                 currentRow--;
             } else if (isCourseLine(line) && currentTermCode != null) {
-                String courseCode = line.substring(COURSE_WITH_TERM_COURSE_CODE_START, COURSE_WITH_TERM_COURSE_CODE_END).trim().replace(" ", "-");
-                String title = line.substring(COURSE_WITH_TERM_TITLE_START, COURSE_WITH_TERM_TITLE_END).trim();
-                String grade = line.substring(COURSE_WITH_TERM_GRADE_START, COURSE_WITH_TERM_GRADE_END).trim();
-                String credits = line.substring(COURSE_WITH_TERM_CREDITS_START, COURSE_WITH_TERM_CREDITS_END).trim();
-                String types = line.length() > COURSE_WITH_TERM_TYPES_START ? line.substring(COURSE_WITH_TERM_TYPES_START).trim().replace(" ", ", ") : "N/A";
-                types = types.replace("WAC-", "WAC-R");
-                    
-                row.createCell(COL_COURSE_NAME).setCellValue(courseCode);
-                row.createCell(COL_TITLE).setCellValue(title);
-                row.createCell(COL_COURSE_STATUS).setCellValue("N");
-                row.createCell(COL_CREDITS).setCellValue(credits);
-                row.createCell(COL_TERM).setCellValue(currentTermCode);
-                row.createCell(COL_GRADE).setCellValue(grade);
-                row.createCell(COL_WAC).setCellValue(types.contains("WAC"));
-                row.createCell(COL_WACR).setCellValue(types.contains("WAC-R"));
-                row.createCell(COL_WS).setCellValue(types.contains("WS"));
-                row.createCell(COL_JCAD).setCellValue(types.contains("JCAD"));
-                row.createCell(COL_GCAD).setCellValue(types.contains("GCAD"));
-                row.createCell(COL_JDQR).setCellValue(types.contains("JDQR"));
-                row.createCell(COL_GDQR).setCellValue(types.contains("GDQR"));
-                row.createCell(COL_JLIT).setCellValue(types.contains("JLIT"));
-                row.createCell(COL_GLIT).setCellValue(types.contains("GLIT"));
-                row.createCell(COL_JSPE).setCellValue(types.contains("JSPE"));
-                row.createCell(COL_GSPE).setCellValue(types.contains("GSPE"));
-                row.createCell(COL_JCHF).setCellValue(types.contains("JCHF"));
-                row.createCell(COL_GCHF).setCellValue(types.contains("GCHF"));
-                row.createCell(COL_JETS).setCellValue(types.contains("JETS"));
-                row.createCell(COL_GETS).setCellValue(types.contains("GETS"));
-                row.createCell(COL_JNPS).setCellValue(types.contains("JNPS"));
-                row.createCell(COL_GNPS).setCellValue(types.contains("GNPS"));
-                row.createCell(COL_JWOL).setCellValue(types.contains("JWOL"));
-                row.createCell(COL_GWOL).setCellValue(types.contains("GWOL"));
-                row.createCell(COL_HUL).setCellValue(types.contains("HUL"));
-                row.createCell(COL_HUM).setCellValue(types.contains("HUM"));
-                row.createCell(COL_LCC).setCellValue(types.contains("LCC"));
-                row.createCell(COL_SCLB).setCellValue(types.contains("SCLB"));
-                row.createCell(COL_QMR).setCellValue(types.contains("QMR"));
-                row.createCell(COL_SET).setCellValue(types.contains("SET"));
-                row.createCell(COL_SOCS).setCellValue(types.contains("SOCS"));
+                String courseCode = field(line, COURSE_WITH_TERM_COURSE_CODE_START, COURSE_WITH_TERM_COURSE_CODE_END).replace(" ", "-");
+                String title = field(line, COURSE_WITH_TERM_TITLE_START, COURSE_WITH_TERM_TITLE_END);
+                String grade = field(line, COURSE_WITH_TERM_GRADE_START, COURSE_WITH_TERM_GRADE_END);
+                String credits = field(line, COURSE_WITH_TERM_CREDITS_START, COURSE_WITH_TERM_CREDITS_END);
+                long types = line.length() > COURSE_WITH_TERM_TYPES_START ? CourseAttribute.parseMask(line.substring(COURSE_WITH_TERM_TYPES_START)) : 0L;
+
+                fillCourseRow(row, courseCode, title, "N", credits, currentTermCode, grade, types);
+                courses++;
             } else if (isCourseLine(line) && currentTermCode == null){
-                String courseCode = line.substring(COURSE_WITHOUT_TERM_COURSE_CODE_START, COURSE_WITHOUT_TERM_COURSE_CODE_END).trim().replace(" ", "-");
-                String title = line.substring(COURSE_WITHOUT_TERM_TITLE_START, COURSE_WITHOUT_TERM_TITLE_END).trim();
-                String credits = line.substring(COURSE_WITHOUT_TERM_CREDITS_START, COURSE_WITHOUT_TERM_CREDITS_END).trim();
-                String types = line.length() > COURSE_WITHOUT_TERM_TYPES_START ? line.substring(COURSE_WITHOUT_TERM_TYPES_START).trim().replace(" ", ", ") : "N/A";
-                types = types.replace("WAC-", "WAC-R");
-                    
-                row.createCell(COL_COURSE_NAME).setCellValue(courseCode);
-                row.createCell(COL_TITLE).setCellValue(title);
-                row.createCell(COL_COURSE_STATUS).setCellValue("Non-Course Equivalency");
-                row.createCell(COL_CREDITS).setCellValue(credits);
-                row.createCell(COL_TERM).setCellValue("");
-                row.createCell(COL_GRADE).setCellValue("T");
-                row.createCell(COL_WAC).setCellValue(types.contains("WAC"));
-                row.createCell(COL_WACR).setCellValue(types.contains("WAC-R"));
-                row.createCell(COL_WS).setCellValue(types.contains("WS"));
-                row.createCell(COL_JCAD).setCellValue(types.contains("JCAD"));
-                row.createCell(COL_GCAD).setCellValue(types.contains("GCAD"));
-                row.createCell(COL_JDQR).setCellValue(types.contains("JDQR"));
-                row.createCell(COL_GDQR).setCellValue(types.contains("GDQR"));
-                row.createCell(COL_JLIT).setCellValue(types.contains("JLIT"));
-                row.createCell(COL_GLIT).setCellValue(types.contains("GLIT"));
-                row.createCell(COL_JSPE).setCellValue(types.contains("JSPE"));
-                row.createCell(COL_GSPE).setCellValue(types.contains("GSPE"));
-                row.createCell(COL_JCHF).setCellValue(types.contains("JCHF"));
-                row.createCell(COL_GCHF).setCellValue(types.contains("GCHF"));
-                row.createCell(COL_JETS).setCellValue(types.contains("JETS"));
-                row.createCell(COL_GETS).setCellValue(types.contains("GETS"));
-                row.createCell(COL_JNPS).setCellValue(types.contains("JNPS"));
-                row.createCell(COL_GNPS).setCellValue(types.contains("GNPS"));
-                row.createCell(COL_JWOL).setCellValue(types.contains("JWOL"));
-                row.createCell(COL_GWOL).setCellValue(types.contains("GWOL"));
-                row.createCell(COL_HUL).setCellValue(types.contains("HUL"));
-                row.createCell(COL_HUM).setCellValue(types.contains("HUM"));
-                row.createCell(COL_LCC).setCellValue(types.contains("LCC"));
-                row.createCell(COL_SCLB).setCellValue(types.contains("SCLB"));
-                row.createCell(COL_QMR).setCellValue(types.contains("QMR"));
-                row.createCell(COL_SET).setCellValue(types.contains("SET"));
-                row.createCell(COL_SOCS).setCellValue(types.contains("SOCS"));
+                String courseCode = field(line, COURSE_WITHOUT_TERM_COURSE_CODE_START, COURSE_WITHOUT_TERM_COURSE_CODE_END).replace(" ", "-");
+                String title = field(line, COURSE_WITHOUT_TERM_TITLE_START, COURSE_WITHOUT_TERM_TITLE_END);
+                String credits = field(line, COURSE_WITHOUT_TERM_CREDITS_START, COURSE_WITHOUT_TERM_CREDITS_END);
+                long types = line.length() > COURSE_WITHOUT_TERM_TYPES_START ? CourseAttribute.parseMask(line.substring(COURSE_WITHOUT_TERM_TYPES_START)) : 0L;
+
+                fillCourseRow(row, courseCode, title, "Non-Course Equivalency", credits, "", "T", types);
+                courses++;
             }
 
             currentRow++;
         }
 
+        return courses;
+    }
+
+    /**
+     * Returns the trimmed field between two offsets of a course line. Offsets past the end of the line
+     * are clamped, so a short line, such as a redacted one, yields an empty field instead of an exception.
+     *
+     * @param line the course line
+     * @param from the offset of the start of the field
+     * @param to the offset of the end of the field
+     * @return the trimmed field
+     */
+    private static String field(String line, int from, int to) {
+        return line.substring(Math.min(from, line.length()), Math.min(to, line.length())).trim();
+    }
+
+    /**
+     * Builds Course objects from classified transcript tokens. Each token has already been
+     * classified, so no line is tested again, and fields are sliced directly out of the token's
+     * source line. Courses listed before the first term header are non-course equivalencies,
+     * which have no term and a grade of "T".
+     *
+     * @param tokens the term header and course tokens representing transcript data
+     * @return the courses on the transcript, in transcript order
+     */
+    public static ArrayList<Course> buildCourses(List<TranscriptToken> tokens) {
+        ArrayList<Course> courses = new ArrayList<>();
+        String currentTermCode = null;
+
+        for (TranscriptToken token : tokens) {
+            if (token.getKind() == LineKind.TERM_HEADER) {
+                currentTermCode = token.termCode();
+            } else if (token.getKind() == LineKind.COURSE) {
+                if (currentTermCode != null) {
+                    courses.add(new Course(
+                        currentTermCode.substring(TERM_CODE_TERM_START),
+                        currentTermCode.substring(0, TERM_CODE_YEAR_END),
+                        token.field(COURSE_WITH_TERM_COURSE_CODE_START, COURSE_WITH_TERM_COURSE_CODE_END).replace(" ", "-"),
+                        token.field(COURSE_WITH_TERM_TITLE_START, COURSE_WITH_TERM_TITLE_END),
+                        CourseAttribute.parseMask(token.joinedTypes(COURSE_WITH_TERM_TYPES_START)),
+                        parseCredits(token.field(COURSE_WITH_TERM_CREDITS_START, COURSE_WITH_TERM_CREDITS_END)),
+                        token.field(COURSE_WITH_TERM_GRADE_START, COURSE_WITH_TERM_GRADE_END)));
+                } else {
+                    courses.add(new Course(
+                        null,
+                        null,
+                        token.field(COURSE_WITHOUT_TERM_COURSE_CODE_START, COURSE_WITHOUT_TERM_COURSE_CODE_END).replace(" ", "-"),
+                        token.field(COURSE_WITHOUT_TERM_TITLE_START, COURSE_WITHOUT_TERM_TITLE_END),
+                        CourseAttribute.parseMask(token.joinedTypes(COURSE_WITHOUT_TERM_TYPES_START)),
+                        parseCredits(token.field(COURSE_WITHOUT_TERM_CREDITS_START, COURSE_WITHOUT_TERM_CREDITS_END)),
+                        "T"));
+                }
+            }
+        }
+
+        return courses;
+    }
+
+    /**
+     * Constructs an in-memory Excel sheet from parsed courses.
+     * This is a view of the transcript; the planner reads the courses directly.
+     *
+     * @param courses the courses on the transcript
+     * @return the constructed transcript sheet
+     */
+    public static Sheet constructCourseSheet(List<Course> courses) {
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = createTranscriptSheet(workbook);
+        fillCourseRows(sheet, courses);
+        return sheet;
+    }
+
+    /**
+     * Writes parsed courses as a transcript workbook with the streaming (SXSSF) writer, which keeps
+     * only a small window of rows in memory regardless of the number of courses.
+     *
+     * @param courses the courses on the transcript
+     * @param out the stream to write the workbook to
+     * @throws IOException if the workbook cannot be written
+     */
+    public static void writeCourseSheet(List<Course> courses, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_ROW_WINDOW);
+        try {
+            Sheet sheet = createTranscriptSheet(workbook);
+            fillCourseRows(sheet, courses);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * Fills the data rows of a transcript sheet, one row per course.
+     *
+     * @param sheet the transcript sheet, with its header row already written
+     * @param courses the courses on the transcript
+     */
+    private static void fillCourseRows(Sheet sheet, List<Course> courses) {
+        int currentRow = FIRST_DATA_ROW_INDEX;
+        for (Course course : courses) {
+            Row row = sheet.createRow(currentRow++);
+            boolean hasTerm = course.getTerm() != null;
+
+            row.createCell(COL_COURSE_NAME).setCellValue(course.getCode());
+            row.createCell(COL_TITLE).setCellValue(course.getTitle());
+            row.createCell(COL_COURSE_STATUS).setCellValue(hasTerm ? "N" : "Non-Course Equivalency");
+            row.createCell(COL_CREDITS).setCellValue(course.getCredits());
+            row.createCell(COL_TERM).setCellValue(hasTerm ? course.getYear() + "/" + course.getTerm() : "");
+            row.createCell(COL_GRADE).setCellValue(course.getGrade());
+            fillTypeCells(row, course.getAttributes());
+        }
+    }
+
+    /**
+     * Fills the course type columns of a transcript sheet row from a course's attribute mask.
+     *
+     * @param row the row to fill
+     * @param attributes the course types, as a mask of {@link CourseAttribute} bits
+     */
+    private static void fillTypeCells(Row row, long attributes) {
+        for (CourseAttribute attribute : CourseAttribute.columns()) {
+            row.createCell(COL_WAC + attribute.ordinal()).setCellValue(attribute.in(attributes));
+        }
+    }
+
+    /**
+     * Parses a credits field such as "1.00" into whole credits.
+     *
+     * @param credits the credits field, which is blank for courses in progress
+     * @return the whole number of credits, or 0 if the field is blank or unreadable
+     */
+    private static int parseCredits(String credits) {
+        if (credits.isEmpty()) {
+            return 0;
+        }
+        try {
+            return (int) Double.parseDouble(credits);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Creates the transcript sheet in the given workbook and writes its header row.
+     *
+     * @param workbook the workbook to create the sheet in
+     * @return the transcript sheet
+     */
+    private static Sheet createTranscriptSheet(Workbook workbook) {
+        Sheet sheet = workbook.createSheet("transcript");
+
+        Row row = sheet.createRow(HEADER_ROW_INDEX);
+        row.createCell(COL_COURSE_NAME).setCellValue("Course Name");
+        row.createCell(COL_TITLE).setCellValue("Title");
+        row.createCell(COL_COURSE_STATUS).setCellValue("Course Status");
+        row.createCell(COL_CREDITS).setCellValue("Credits");
+        row.createCell(COL_TERM).setCellValue("Term");
+        row.createCell(COL_GRADE).setCellValue("Grade");
+        for (CourseAttribute attribute : CourseAttribute.columns()) {
+            row.createCell(COL_WAC + attribute.ordinal()).setCellValue(attribute.getCode());
+        }
+
+        return sheet;
+    }
+
+    /**
+     * Fills a transcript sheet row with a course's details and its course type flags.
+     *
+     * @param row the row to fill
+     * @param courseCode the course code, e.g. "CSC-105"
+     * @param title the course title
+     * @param status the course status
+     * @param credits the course credits
+     * @param termCode the term code, e.g. "23/FA", or "" for non-course equivalencies
+     * @param grade the course grade
+     * @param types the course types, as a mask of {@link CourseAttribute} bits
+     */
+    private static void fillCourseRow(Row row, String courseCode, String title, String status, String credits, String termCode, String grade, long types) {
+        row.createCell(COL_COURSE_NAME).setCellValue(courseCode);
+        row.createCell(COL_TITLE).setCellValue(title);
+        row.createCell(COL_COURSE_STATUS).setCellValue(status);
+        row.createCell(COL_CREDITS).setCellValue(credits);
+        row.createCell(COL_TERM).setCellValue(termCode);
+        row.createCell(COL_GRADE).setCellValue(grade);
+        fillTypeCells(row, types);
+    }
+
+    /**
+     * Writes the workbook to output/ParsedTranscript.xlsx in the working directory.
+     *
+     * @param workbook the workbook to write
+     */
+    private static void writeWorkbook(Workbook workbook) {
         String outputDir = System.getProperty("user.dir") + "/output/";
         File dir = new File(outputDir);
         if (!dir.exists()) {
@@ -402,21 +717,18 @@ public class PDFParser {
         }
 
         System.out.println("Saving ParsedTranscript.xlsx to: " + System.getProperty("user.dir") + File.separator + "output" + File.separator + "ParsedTranscript.xlsx");
-
-        return sheet;
     }
 
     /**
-     * Converts a term header string to a term code in the format "YY/TC".
+     * Converts a term header string to a term code in the format "YY/TC". The year is found after
+     * "Term", so headers without their date range, as on redacted transcripts, convert too.
      *
      * @param termHeader the term header string
      * @return the converted term code
+     * @throws IllegalStateException if the string is not a term header
      */
     public static String convertTermToCode(String termHeader) {
-        String year = termHeader.substring(0, TERM_HEADER_YEAR_PART_END).trim().substring(termHeader.substring(0, TERM_HEADER_YEAR_PART_END).trim().length()-TERM_YEAR_SUFFIX_LENGTH);
-        String termCode = termHeader.substring(0, TERM_CODE_END_INDEX).toUpperCase();
-        
-        return year + "/" + termCode;
+        return TranscriptLexer.lex(termHeader).termCode();
     }
 
     /**
@@ -426,7 +738,7 @@ public class PDFParser {
      * @return true if the line is a course line, false otherwise
      */
     public static boolean isCourseLine(String line) {
-        return line.trim().matches(COURSE_LINE_REGEX);
+        return TranscriptLexer.isCourseLine(line);
     }
     
     /**
@@ -436,7 +748,7 @@ public class PDFParser {
      * @return true if the line is a term header, false otherwise
      */
     public static boolean isTermHeader(String line) {
-        return line.trim().matches(TERM_HEADER_REGEX);
+        return TranscriptLexer.isTermHeader(line);
     }
     
     /**
@@ -446,6 +758,6 @@ public class PDFParser {
      * @return true if the line is a course type, false otherwise
      */
     public static boolean isCourseType(String line) {
-        return line.trim().matches(COURSE_TYPE_REGEX);
+        return TranscriptLexer.isCourseType(line);
     }
 }
\ No newline at end of file
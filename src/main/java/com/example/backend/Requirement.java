@@ -1,13 +1,37 @@
 package com.example.backend;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * The Requirement class represents an academic requirement for a concentration.
  * It may consist of a list of course groups or sequences of sub-requirements.
+ *
+ * The number, type and grade requirements are compiled once, when the requirement is built, into
+ * {@link LevelConstraint}s, {@link AttributeConstraint}s and a minimum number of grade points, so
+ * auditing a student only compares numbers and never parses the strings they were written as.
  */
 public class Requirement {
+
+    /**
+     * A number of the courses that must be numbered at or above a threshold, written e.g. "4 (>= 300)".
+     *
+     * @param count the number of courses that must meet the threshold
+     * @param minimumNumber the lowest qualifying course number
+     */
+    public record LevelConstraint(int count, int minimumNumber) {
+    }
+
+    /**
+     * A number of the courses that must carry one of some course types, written e.g. "1 (WAC-R)".
+     *
+     * @param count the number of courses that must carry one of the types
+     * @param codes the course types as written, e.g. "WAC-R"
+     * @param mask the course types as a mask of {@link CourseAttribute} bits
+     */
+    public record AttributeConstraint(int count, String codes, long mask) {
+    }
+
     private String title;
     private ArrayList<String> courseGroups;
     private ArrayList<Requirement> sequences;
@@ -17,6 +41,9 @@ public class Requirement {
     private String gradeRequirement;
     private ArrayList<String> numReqs;
     private ArrayList<String> typeReqs;
+    private List<LevelConstraint> levelConstraints;
+    private List<AttributeConstraint> attributeConstraints;
+    private double minimumGradePoints;
 
     /**
      * Creates a Requirement based on course groups.
@@ -66,6 +93,10 @@ public class Requirement {
         this.gradeRequirement = gradeRequirement;
         this.numReqs = createNumReqs();
         this.typeReqs = createTypeReqs();
+        this.levelConstraints = compileLevelConstraints();
+        this.attributeConstraints = compileAttributeConstraints();
+        this.minimumGradePoints = gradeRequirement == null || gradeRequirement.isEmpty()
+            ? Double.NEGATIVE_INFINITY : Course.gradePoints(gradeRequirement);
         this.sequences = sequences;
     }
     
@@ -93,13 +124,7 @@ public class Requirement {
      * @return an ArrayList of numerical requirement strings, or null if not applicable
      */
     private ArrayList<String> createNumReqs(){
-        if (numberRequirements != null) {
-            ArrayList<String> list = new ArrayList<>(Arrays.asList(numberRequirements.toString().split(",(?![^()]*\\))")));
-            list.replaceAll(String::trim);
-            return list;
-        } else {
-            return null;
-        }
+        return numberRequirements != null ? splitOutsideParentheses(numberRequirements) : null;
     }
 
     /**
@@ -108,13 +133,112 @@ public class Requirement {
      * @return an ArrayList of type requirement strings, or null if not applicable
      */
     private ArrayList<String> createTypeReqs(){
-        if (typeRequirements != null) {
-            ArrayList<String> list = new ArrayList<>(Arrays.asList(typeRequirements.toString().split(",(?![^()]*\\))")));
-            list.replaceAll(String::trim);
-            return list;
-        } else {
-            return null;
+        return typeRequirements != null ? splitOutsideParentheses(typeRequirements) : null;
+    }
+
+    /**
+     * Compiles the numerical requirements, each a count in its first two characters followed by
+     * the threshold, e.g. "4 (>= 300)".
+     *
+     * @return the level constraints, empty if there are no numerical requirements
+     * @throws IllegalArgumentException if a numerical requirement is missing its count or threshold
+     */
+    private List<LevelConstraint> compileLevelConstraints() {
+        if (numReqs == null) {
+            return List.of();
+        }
+        ArrayList<LevelConstraint> constraints = new ArrayList<>();
+        for (String pair : numReqs) {
+            if (pair.isEmpty()) continue;
+            int split = Math.min(2, pair.length());
+            constraints.add(new LevelConstraint(digits(pair, 0, split, "number requirement"),
+                digits(pair, split, pair.length(), "number requirement")));
+        }
+        return List.copyOf(constraints);
+    }
+
+    /**
+     * Compiles the type requirements, each a count in its first two characters followed by the
+     * course types in parentheses, e.g. "1 (WAC-R)".
+     *
+     * @return the attribute constraints, empty if there are no type requirements
+     * @throws IllegalArgumentException if a type requirement is missing its count
+     */
+    private List<AttributeConstraint> compileAttributeConstraints() {
+        if (typeReqs == null) {
+            return List.of();
+        }
+        ArrayList<AttributeConstraint> constraints = new ArrayList<>();
+        for (String pair : typeReqs) {
+            if (pair.isEmpty()) continue;
+            // The types are the contents of the last parentheses, or the whole requirement without any
+            String codes = pair;
+            int open = pair.lastIndexOf('(');
+            int close = open < 0 ? -1 : pair.indexOf(')', open);
+            if (close >= 0) {
+                codes = pair.substring(open + 1, close);
+            }
+            constraints.add(new AttributeConstraint(digits(pair, 0, Math.min(2, pair.length()), "type requirement"),
+                codes, CourseAttribute.parseMask(codes)));
         }
+        return List.copyOf(constraints);
+    }
+
+    /**
+     * Reads the number formed by the digits in part of a requirement, ignoring any other characters.
+     *
+     * @param text the requirement
+     * @param start the index of the first character to read
+     * @param end the index after the last character to read
+     * @param kind the kind of requirement, for the error message
+     * @return the number
+     * @throws IllegalArgumentException if there are no digits
+     */
+    private int digits(String text, int start, int end, String kind) {
+        int value = 0;
+        boolean found = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("Malformed " + kind + " \"" + text + "\" in " + title);
+        }
+        return value;
+    }
+
+    /**
+     * Splits a list of requirements at the commas that are not inside parentheses, trimming each one.
+     *
+     * @param requirements the comma-separated requirements
+     * @return an ArrayList of the requirements, with a single empty string if there are none
+     */
+    private static ArrayList<String> splitOutsideParentheses(String requirements) {
+        ArrayList<String> list = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < requirements.length(); i++) {
+            char c = requirements.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && depth > 0) {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                list.add(requirements.substring(start, i));
+                start = i + 1;
+            }
+        }
+        list.add(requirements.substring(start));
+
+        // Like String.split, drop trailing empty requirements but keep a lone empty one
+        while (list.size() > 1 && list.get(list.size() - 1).isEmpty()) {
+            list.remove(list.size() - 1);
+        }
+        list.replaceAll(String::trim);
+        return list;
     }
 
     /**
@@ -135,6 +259,33 @@ public class Requirement {
         return typeReqs;
     }
 
+    /**
+     * Returns the compiled numerical requirements.
+     *
+     * @return an unmodifiable list of level constraints, in the order written
+     */
+    public List<LevelConstraint> getLevelConstraints() {
+        return levelConstraints;
+    }
+
+    /**
+     * Returns the compiled type requirements.
+     *
+     * @return an unmodifiable list of attribute constraints, in the order written
+     */
+    public List<AttributeConstraint> getAttributeConstraints() {
+        return attributeConstraints;
+    }
+
+    /**
+     * Returns the grade points of the minimum grade, as compared against {@link Course#getGradePoints()}.
+     *
+     * @return the minimum grade points, or negative infinity if there is no grade requirement
+     */
+    public double getMinimumGradePoints() {
+        return minimumGradePoints;
+    }
+
     /**
      * Returns the list of course groups.
      *
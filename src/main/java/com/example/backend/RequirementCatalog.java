@@ -0,0 +1,244 @@
+package com.example.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The RequirementCatalog class holds the requirements of every major and minor, indexed by concentration
+ * name, ignoring case, along with the majors and minors offered for selection, the {@link CourseCatalog}
+ * of every course offered, the {@link ApCreditTable} of AP equivalencies and the course numbers that
+ * wildcard requirements such as "CSC-XXX" never match.
+ *
+ * The catalog is read from the snapshot that {@link CatalogCompiler} compiles from the list, requirement,
+ * course, AP credit and wildcard exclusion workbooks at build time, which needs no Apache POI; the
+ * workbooks themselves are only read, through {@link CatalogWorkbooks}, when the snapshot is missing or
+ * was written in another format.
+ *
+ * The catalog is immutable once built, so it is shared by every {@link Concentration} and every
+ * thread. The requirements it returns are shared too and must not be modified; the audit only reads them.
+ */
+public final class RequirementCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(RequirementCatalog.class);
+
+    /**
+     * The version of the catalog, a digest of the workbooks it was read from.
+     */
+    private final String version;
+
+    /**
+     * The names of the majors offered for selection, in list order.
+     */
+    private final List<String> majorNames;
+
+    /**
+     * The names of the minors offered for selection, in list order.
+     */
+    private final List<String> minorNames;
+
+    /**
+     * The requirements of each major, keyed by lower-case name.
+     */
+    private final Map<String, List<Requirement>> majors;
+
+    /**
+     * The requirements of each minor, keyed by lower-case name.
+     */
+    private final Map<String, List<Requirement>> minors;
+
+    /**
+     * Every course offered, indexed for lookup and search.
+     */
+    private final CourseCatalog courses;
+
+    /**
+     * The credit and equivalent courses of each AP exam score.
+     */
+    private final ApCreditTable apCredits;
+
+    /**
+     * The course numbers, such as "295H", that wildcard requirements never match.
+     */
+    private final Set<String> wildcardExclusions;
+
+    /**
+     * Constructs a catalog from its concentration lists and requirements.
+     *
+     * @param version the version of the catalog
+     * @param majorNames the unmodifiable names of the majors offered, in list order
+     * @param minorNames the unmodifiable names of the minors offered, in list order
+     * @param majors the unmodifiable requirements of each major, keyed by {@link #key}
+     * @param minors the unmodifiable requirements of each minor, keyed by {@link #key}
+     * @param courses every course offered
+     * @param apCredits the credit and equivalent courses of each AP exam score
+     * @param wildcardExclusions the unmodifiable course numbers that wildcard requirements never match
+     */
+    RequirementCatalog(String version, List<String> majorNames, List<String> minorNames,
+            Map<String, List<Requirement>> majors, Map<String, List<Requirement>> minors, CourseCatalog courses,
+            ApCreditTable apCredits, Set<String> wildcardExclusions) {
+        this.version = version;
+        this.majorNames = majorNames;
+        this.minorNames = minorNames;
+        this.majors = majors;
+        this.minors = minors;
+        this.courses = courses;
+        this.apCredits = apCredits;
+        this.wildcardExclusions = wildcardExclusions;
+    }
+
+    /**
+     * Returns the catalog bundled with the application, reading it on first use.
+     *
+     * @return the default catalog
+     */
+    public static RequirementCatalog getDefault() {
+        return DefaultHolder.CATALOG;
+    }
+
+    /**
+     * Reads the catalog from the compiled snapshot on the classpath, or from the workbooks if there is
+     * no snapshot or it cannot be read.
+     *
+     * @return a new catalog
+     * @throws UncheckedIOException if the catalog has to be read from the workbooks and one is missing or cannot be read
+     */
+    public static RequirementCatalog load() {
+        try (InputStream in = RequirementCatalog.class.getClassLoader().getResourceAsStream(CatalogSnapshotFormat.RESOURCE)) {
+            if (in != null) {
+                return CatalogSnapshotFormat.read(in);
+            }
+            log.info("No catalog snapshot on the classpath, reading the catalog workbooks");
+        } catch (IOException e) {
+            log.warn("Could not read the catalog snapshot, reading the catalog workbooks instead", e);
+        }
+        return CatalogWorkbooks.load();
+    }
+
+    /**
+     * Returns the version of the catalog, a digest of the workbooks it was read from, so a catalog read
+     * from the snapshot has the same version as one read from the workbooks it was compiled from.
+     *
+     * @return the catalog version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the requirements of a concentration.
+     *
+     * @param minor whether the concentration is a minor rather than a major
+     * @param name the name of the concentration, in any case
+     * @return the requirements in sheet order, or an empty list if there is no such concentration
+     */
+    public List<Requirement> getRequirements(boolean minor, String name) {
+        Map<String, List<Requirement>> index = minor ? minors : majors;
+        return index.getOrDefault(key(name), List.of());
+    }
+
+    /**
+     * Returns the names of the majors offered for selection.
+     *
+     * @return an unmodifiable list of major names, in list order
+     */
+    public List<String> getMajorNames() {
+        return majorNames;
+    }
+
+    /**
+     * Returns the names of the minors offered for selection.
+     *
+     * @return an unmodifiable list of minor names, in list order
+     */
+    public List<String> getMinorNames() {
+        return minorNames;
+    }
+
+    /**
+     * Returns every course offered.
+     *
+     * @return the course catalog
+     */
+    public CourseCatalog getCourses() {
+        return courses;
+    }
+
+    /**
+     * Returns the AP equivalencies.
+     *
+     * @return the credit and equivalent courses of each AP exam score
+     */
+    public ApCreditTable getApCredits() {
+        return apCredits;
+    }
+
+    /**
+     * Returns the course numbers that wildcard requirements such as "CSC-XXX" never match, such as the
+     * honors independent projects "295H", "296H" and "297H".
+     *
+     * @return an unmodifiable set of course numbers, the part of a course code after the department
+     */
+    public Set<String> getWildcardExclusions() {
+        return wildcardExclusions;
+    }
+
+    /**
+     * Returns whether the catalog has requirements for a concentration.
+     *
+     * @param minor whether the concentration is a minor rather than a major
+     * @param name the name of the concentration, in any case
+     * @return true if the concentration has at least one requirement
+     */
+    public boolean contains(boolean minor, String name) {
+        return (minor ? minors : majors).containsKey(key(name));
+    }
+
+    /**
+     * Returns the requirements of every major or every minor.
+     *
+     * @param minor whether to return the minors rather than the majors
+     * @return an unmodifiable map from lower-case name to the concentration's requirements
+     */
+    Map<String, List<Requirement>> requirements(boolean minor) {
+        return minor ? minors : majors;
+    }
+
+    /**
+     * Returns the index key of a concentration name.
+     *
+     * @param name the concentration name
+     * @return the trimmed, lower-case name
+     */
+    static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Copies grouped requirements into an unmodifiable index.
+     *
+     * @param grouped the requirements of each concentration, keyed by {@link #key}
+     * @return an unmodifiable map of unmodifiable requirement lists
+     */
+    static Map<String, List<Requirement>> freeze(Map<String, List<Requirement>> grouped) {
+        Map<String, List<Requirement>> index = new HashMap<>();
+        for (Map.Entry<String, List<Requirement>> entry : grouped.entrySet()) {
+            index.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return Map.copyOf(index);
+    }
+
+    /**
+     * Holds the default catalog, so it is read only when it is first used.
+     */
+    private static final class DefaultHolder {
+        private static final RequirementCatalog CATALOG = load();
+    }
+}
@@ -1,14 +1,35 @@
 package com.example.backend;
 
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.File;
+import java.util.ArrayList;
+import javax.xml.parsers.ParserConfigurationException;
 
 /**
  * The SheetGenerator class is responsible for reading an Excel file and providing access to its first sheet.
+ *
+ * Callers that only need to pass over the rows once should use {@link #readRows(String, RowHandler)}
+ * instead, which streams the first sheet through the XSSF event reader and hands each row to a callback
+ * without building cell objects for the workbook. Its heap use is one row plus the workbook's shared
+ * strings, which are held in full; a file is read in place one zip entry at a time, while a workbook
+ * given as a stream is also unpacked into memory first.
  */
 public class SheetGenerator {
 
@@ -16,25 +37,14 @@ public class SheetGenerator {
      * The Excel sheet read from the file.
      */
     public Sheet sheet;
-    
+
     /**
      * Constructs a SheetGenerator for the specified Excel file.
      *
-     * @param xlsx the path to the Excel file
+     * @param filePath the path to the Excel file, or the name of a classpath resource
      */
     public SheetGenerator(String filePath) {
-        try {
-            InputStream fileStream;
-
-            // Check if the file is an output/runtime file (absolute path)
-            File file = new File(filePath);
-            if (file.exists()) {
-                fileStream = new FileInputStream(file);
-            } else {
-                // Otherwise, try loading it as a classpath resource
-                fileStream = getClass().getClassLoader().getResourceAsStream(filePath);
-            }
-
+        try (InputStream fileStream = open(filePath)) {
             if (fileStream == null) {
                 throw new IOException("File not found: " + filePath);
             }
@@ -63,4 +73,270 @@ public class SheetGenerator {
     public Sheet getSheet(){
         return sheet;
     }
-}
\ No newline at end of file
+
+    /**
+     * Receives the rows of a sheet as it is streamed.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * Handles one row. The row is reused for the next one, so it must not be kept.
+         *
+         * @param row the row
+         */
+        void handle(SheetRow row);
+    }
+
+    /**
+     * One row of a streamed sheet. Blank cells and rows are never stored in the file, so a
+     * missing cell reads as null and a missing row is skipped, as when iterating a {@link Sheet};
+     * a formatted row with no values is still handed over, with no cells.
+     */
+    public static final class SheetRow {
+
+        /**
+         * The values of the cells, indexed by column, with null for blank cells.
+         */
+        private final ArrayList<String> cells = new ArrayList<>();
+
+        /**
+         * The zero-based index of the row.
+         */
+        private int rowNum;
+
+        private SheetRow() {
+        }
+
+        /**
+         * Returns the zero-based index of the row within the sheet.
+         *
+         * @return the row index
+         */
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        /**
+         * Returns the number of columns up to the last cell with a value.
+         *
+         * @return the column count
+         */
+        public int size() {
+            return cells.size();
+        }
+
+        /**
+         * Returns the value of a cell as text. Numbers read as {@link Cell#toString()} shows them,
+         * e.g. "3.0", and booleans as "TRUE" or "FALSE".
+         *
+         * @param column the zero-based column index
+         * @return the value, or null if the cell is blank
+         */
+        public String getString(int column) {
+            return column < cells.size() ? cells.get(column) : null;
+        }
+
+        /**
+         * Returns whether a cell is blank.
+         *
+         * @param column the zero-based column index
+         * @return true if the cell has no value
+         */
+        public boolean isBlank(int column) {
+            return getString(column) == null;
+        }
+
+        /**
+         * Returns the value of a numeric cell.
+         *
+         * @param column the zero-based column index
+         * @return the value
+         * @throws NumberFormatException if the cell is blank or not a number
+         */
+        public double getNumber(int column) {
+            String value = getString(column);
+            if (value == null) {
+                throw new NumberFormatException("Blank cell in column " + column + " of row " + rowNum);
+            }
+            return Double.parseDouble(value);
+        }
+
+        /**
+         * Starts a new row.
+         *
+         * @param rowNum the zero-based index of the row
+         */
+        private void reset(int rowNum) {
+            this.rowNum = rowNum;
+            cells.clear();
+        }
+
+        /**
+         * Sets the value of a cell.
+         *
+         * @param column the zero-based column index
+         * @param value the value
+         */
+        private void set(int column, String value) {
+            while (cells.size() <= column) {
+                cells.add(null);
+            }
+            cells.set(column, value);
+        }
+    }
+
+    /**
+     * Streams the rows of the first sheet of an Excel file, in order.
+     *
+     * @param filePath the path to the Excel file, or the name of a classpath resource
+     * @param handler receives each row
+     * @throws IOException if the file is missing or is not a readable .xlsx workbook
+     */
+    public static void readRows(String filePath, RowHandler handler) throws IOException {
+        File file = new File(filePath);
+        if (file.exists()) {
+            // A file is read in place, one zip entry at a time
+            try {
+                readRows(OPCPackage.open(file, PackageAccess.READ), handler);
+            } catch (OpenXML4JException | UnsupportedFileFormatException e) {
+                throw new IOException("Error reading Excel file " + filePath + ": " + e.getMessage(), e);
+            }
+            return;
+        }
+        try (InputStream in = open(filePath)) {
+            if (in == null) {
+                throw new IOException("File not found: " + filePath);
+            }
+            readRows(in, handler);
+        }
+    }
+
+    /**
+     * Streams the rows of the first sheet of an Excel workbook, in order. The compressed workbook is
+     * unpacked into memory, but its cells are never turned into objects.
+     *
+     * @param in the contents of the .xlsx workbook, which is not closed
+     * @param handler receives each row
+     * @throws IOException if the stream is not a readable .xlsx workbook
+     */
+    public static void readRows(InputStream in, RowHandler handler) throws IOException {
+        try {
+            readRows(OPCPackage.open(in), handler);
+        } catch (OpenXML4JException | UnsupportedFileFormatException e) {
+            throw new IOException("Error reading Excel file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Streams the rows of the first sheet of an opened workbook, then closes it without saving.
+     *
+     * @param workbook the workbook package
+     * @param handler receives each row
+     * @throws IOException if the workbook cannot be read
+     * @throws OpenXML4JException if the workbook is not a valid .xlsx package
+     */
+    private static void readRows(OPCPackage workbook, RowHandler handler) throws IOException, OpenXML4JException {
+        try {
+            streamFirstSheet(workbook, handler);
+        } finally {
+            // close() would try to save the package
+            workbook.revert();
+        }
+    }
+
+    /**
+     * Streams the rows of the first sheet of an opened workbook through the XSSF event reader,
+     * resolving shared strings from a read-only table.
+     *
+     * @param workbook the workbook package
+     * @param handler receives each row
+     * @throws IOException if the workbook cannot be read
+     * @throws OpenXML4JException if the workbook is not a valid .xlsx package
+     */
+    private static void streamFirstSheet(OPCPackage workbook, RowHandler handler) throws IOException, OpenXML4JException {
+        XSSFReader reader = new XSSFReader(workbook);
+        ReadOnlySharedStringsTable strings;
+        try {
+            strings = new ReadOnlySharedStringsTable(workbook);
+        } catch (SAXException e) {
+            throw new IOException("Error reading shared strings: " + e.getMessage(), e);
+        }
+        StylesTable styles = reader.getStylesTable();
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            throw new IOException("Excel file has no sheets");
+        }
+
+        SheetRow row = new SheetRow();
+        XSSFSheetXMLHandler.SheetContentsHandler contents = new XSSFSheetXMLHandler.SheetContentsHandler() {
+            @Override
+            public void startRow(int rowNum) {
+                row.reset(rowNum);
+            }
+
+            @Override
+            public void endRow(int rowNum) {
+                handler.handle(row);
+            }
+
+            @Override
+            public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+                row.set(column(cellReference), formattedValue);
+            }
+        };
+
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, contents, new RawValueFormatter(), false));
+            parser.parse(new InputSource(sheet));
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException("Error reading Excel sheet: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the zero-based column of a cell reference, e.g. 1 for "B7".
+     *
+     * @param cellReference the cell reference
+     * @return the column index
+     */
+    private static int column(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    /**
+     * Opens an Excel file, or a classpath resource if there is no such file.
+     *
+     * @param filePath the path to the Excel file, or the name of a classpath resource
+     * @return the contents of the file, or null if neither exists
+     * @throws IOException if the file cannot be opened
+     */
+    private static InputStream open(String filePath) throws IOException {
+        // Check if the file is an output/runtime file (absolute path)
+        File file = new File(filePath);
+        if (file.exists()) {
+            return new FileInputStream(file);
+        }
+        // Otherwise, try loading it as a classpath resource
+        return SheetGenerator.class.getClassLoader().getResourceAsStream(filePath);
+    }
+
+    /**
+     * Formats numeric cells as {@link Cell#toString()} does, ignoring their display format, so
+     * streamed values match the values read from a loaded sheet.
+     */
+    private static final class RawValueFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            return Double.toString(value);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.backend;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * The Student class represents a student with a graduation year, a list of completed courses,
@@ -73,69 +72,62 @@ public class Student {
         System.out.println("Graduation Year: " + gradYr);
         System.out.println("==================================\n");
 
+        AuditResult result = audit();
+
         // Process majors
-        for (Concentration major : majors) {
-            System.out.println("Major: " + major.getName());
+        for (AuditResult.ConcentrationResult major : result.majors()) {
+            System.out.println("Major: " + major.name());
             printConcentrationProgress(major);
         }
 
         // Process minors
-        for (Concentration minor : minors) {
-            System.out.println("Minor: " + minor.getName());
+        for (AuditResult.ConcentrationResult minor : result.minors()) {
+            System.out.println("Minor: " + minor.name());
             printConcentrationProgress(minor);
         }
     }
 
     /**
-     * Processes each requirement for the given concentration.
-     * A copy of the student's courses is made so that each requirement "consumes" courses as they are used.
+     * Prints the progress on each requirement of a concentration.
      *
-     * @param concentration the concentration (major or minor) to process
+     * @param concentration the audited concentration (major or minor)
      */
-    private void printConcentrationProgress(Concentration concentration) {
-        List<Course> coursesLeft = new ArrayList<>(courses);
-        for (Requirement req : concentration.getReqs()) {
-            if (req.isSeq()) {
-                System.out.println(processSequenceRequirement(req, coursesLeft));
-            } else {
-                System.out.println(processNonSequenceRequirement(req, coursesLeft));
-            }
+    private void printConcentrationProgress(AuditResult.ConcentrationResult concentration) {
+        for (AuditResult.RequirementResult req : concentration.requirements()) {
+            System.out.println(req.toText());
         }
     }
 
     /**
      * Processes a requirement that is made up of sequences (sub-requirements).
      *
+     * @param id identifies the requirement within the audit
      * @param req the requirement to process
-     * @param coursesLeft the list of courses available for fulfilling the requirement
-     * @return a string representing the progress on the sequence requirement
+     * @param index the student's courses, indexed by code, department and level
+     * @param consumed the positions of the courses already used to fulfill other requirements
+     * @return the progress on the sequence requirement
      */
-    private String processSequenceRequirement(Requirement req, List<Course> coursesLeft) {
-        StringBuilder result = new StringBuilder();
+    private AuditResult.RequirementResult processSequenceRequirement(String id, Requirement req, TranscriptIndex index,
+            BitSet consumed) {
         int seqsFulfilled = 0;
-        List<String[]> fulfilledCourseLists = new ArrayList<>();
-        List<String[]> sequences = new ArrayList<>();
+        List<AuditResult.SequenceResult> sequences = new ArrayList<>();
 
-        // Build a list of sequence arrays from each sub-requirement.
         for (Requirement subReq : req.getSequences()) {
-            String[] seq = new String[subReq.getNumNeeded()];
-            for (int j = 0; j < subReq.getNumNeeded(); j++) {
-                seq[j] = subReq.getCourseGroups().get(j);
+            List<String> seq = subReq.getCourseGroups().subList(0, subReq.getNumNeeded());
+            if (seqsFulfilled >= req.getNumNeeded()) {
+                // Enough sequences are complete, so the rest are not looked at
+                sequences.add(new AuditResult.SequenceResult(seq, List.of()));
+                continue;
             }
-            sequences.add(seq);
-        }
-
-        int counter = 0;
-        for (Requirement subReq : req.getSequences()) {
             int numFulfilled = 0;
-            String[] fulfilledCourses = new String[subReq.getNumNeeded()];
+            List<String> fulfilledCourses = new ArrayList<>(subReq.getNumNeeded());
             for (String course : subReq.getCourseGroups()) {
-                List<Course> usedCourses = new ArrayList<>();
-                for (Course myCourse : coursesLeft) {
-                    if (course.equals(myCourse.getCode())
-                            && (subReq.getGradeRequirement().equals("") || compareGrades(myCourse.getGrade(), subReq.getGradeRequirement()))) {
-                        fulfilledCourses[numFulfilled] = course;
-                        usedCourses.add(myCourse);
+                for (int position : index.code(course)) {
+                    Course myCourse = index.get(position);
+                    if (!consumed.get(position)
+                            && myCourse.getGradePoints() >= subReq.getMinimumGradePoints()) {
+                        fulfilledCourses.add(course);
+                        consumed.set(position);
                         numFulfilled++;
                         if (numFulfilled >= subReq.getNumNeeded()) {
                             seqsFulfilled++;
@@ -143,108 +135,85 @@ public class Student {
                         }
                     }
                 }
-                removeUsedCourses(coursesLeft, usedCourses);
                 if (numFulfilled >= subReq.getNumNeeded()) {
-                    // Remove the corresponding sequence since it has been completed
-                    sequences.remove(counter);
-                    counter--; // Adjust counter because of removal
                     break;
                 }
             }
-            fulfilledCourseLists.add(fulfilledCourses);
-            counter++;
-            if (seqsFulfilled >= req.getNumNeeded()) {
-                break;
-            }
-        }
-
-        // Print out progress based on how many sequences were fulfilled.
-        if (seqsFulfilled >= req.getNumNeeded()) {
-            result.append("[X] " + req.getTitle() + " (Completed)\n");
-            String fulfilledStr = fulfilledCourseLists.stream()
-                    .sorted((a, b) -> Double.compare(
-                            (double) Arrays.stream(b).filter(Objects::nonNull).count() / b.length,
-                            (double) Arrays.stream(a).filter(Objects::nonNull).count() / a.length))
-                    .limit(req.getNumNeeded())
-                    .map(arr -> Arrays.stream(arr).filter(Objects::nonNull).collect(Collectors.joining(", ")))
-                    .collect(Collectors.joining("; "));
-            result.append("   Fulfilled by: " + fulfilledStr + "\n");
-        } else if (seqsFulfilled > 0) {
-            result.append("[~] " + req.getTitle() + " (Partially Completed)\n");
-            String completedSequences = fulfilledCourseLists.stream()
-                    .filter(arr -> Arrays.stream(arr).noneMatch(Objects::isNull))
-                    .map(arr -> "(" + String.join(", ", arr) + ")")
-                    .collect(Collectors.joining("; "));
-            result.append("   Sequences Completed: " + completedSequences + "\n");
-            String sequencesLeftStr = formatSequences(sequences);
-            result.append("   Sequences Left: " + (req.getNumNeeded() - seqsFulfilled)
-                    + " of: " + sequencesLeftStr);
-            result.append(gradeRequirementSuffix(req.getGradeRequirement()) + "\n");
-        } else {
-            result.append("[ ] " + req.getTitle() + " (Not Completed)\n");
-            String sequencesLeftStr = formatSequences(sequences);
-            result.append("   Sequences Left: " + (req.getNumNeeded() - seqsFulfilled)
-                    + " of: " + sequencesLeftStr);
-            result.append(gradeRequirementSuffix(req.getGradeRequirement()) + "\n");
+            sequences.add(new AuditResult.SequenceResult(seq, fulfilledCourses));
         }
-        result.append("\n");
 
-        return result.toString();
+        return AuditResult.RequirementResult.ofSequences(id, req, sequences);
     }
 
     /**
      * Processes a requirement that is not based on sequences.
      * This method has been refactored to use helper methods for clarity.
      *
+     * Wildcard course groups such as "CSC-XXX" only look at the department's courses, and only at those in or
+     * above the lowest level threshold when the requirement has level thresholds alone, since a course below
+     * every threshold can never qualify.
+     *
+     * @param id identifies the requirement within the audit
      * @param req the requirement to process
-     * @param coursesLeft the list of courses available for fulfilling the requirement
-     * @return a string representing the progress on the non-sequence requirement
+     * @param index the student's courses, indexed by code, department and level
+     * @param consumed the positions of the courses already used to fulfill other requirements
+     * @param wildcardExclusions the course numbers that wildcard course groups never match
+     * @return the progress on the non-sequence requirement
      */
-    private String processNonSequenceRequirement(Requirement req, List<Course> coursesLeft) {
-        StringBuilder result = new StringBuilder();
+    private AuditResult.RequirementResult processNonSequenceRequirement(String id, Requirement req, TranscriptIndex index,
+            BitSet consumed, Set<String> wildcardExclusions) {
         int numFulfilled = 0;
-        String[] fulfilledCourses = new String[req.getNumNeeded()];
-        ArrayList<int[]> numRequirements = new ArrayList<>();
-        ArrayList<Map.Entry<Integer, String>> typeRequirements = new ArrayList<>();
+        List<String> fulfilledCourses = new ArrayList<>(req.getNumNeeded());
+        List<Requirement.LevelConstraint> levels = req.getLevelConstraints();
+        List<Requirement.AttributeConstraint> attributes = req.getAttributeConstraints();
         ArrayList<String> courseList = new ArrayList<>(req.getCourseGroups());
-        
-        boolean hasNumReq = !req.getNumberRequirements().equals("");
-        boolean hasTypeReq = !req.getTypeRequirements().equals("");
-
-        if (hasNumReq) {
-            for (String pair : req.getNumReqs()) {
-                numRequirements.add(new int[]{
-                    Integer.parseInt(pair.substring(0, 2).replaceAll("[^0-9]", "")),
-                    Integer.parseInt(pair.substring(2).replaceAll("[^0-9]", ""))
-                });
-            }
+
+        boolean hasNumReq = !levels.isEmpty();
+        boolean hasTypeReq = !attributes.isEmpty();
+
+        // The constraints are compiled with the catalog; only the counts still needed change as courses qualify
+        int[] levelCounts = new int[levels.size()];
+        for (int i = 0; i < levelCounts.length; i++) {
+            levelCounts[i] = levels.get(i).count();
+        }
+        int[] attributeCounts = new int[attributes.size()];
+        for (int i = 0; i < attributeCounts.length; i++) {
+            attributeCounts[i] = attributes.get(i).count();
         }
-        if (hasTypeReq) {
-            for (String pair : req.getTypeReqs()) {
-                typeRequirements.add(new AbstractMap.SimpleEntry<>(
-                    Integer.parseInt(pair.substring(0, 2).replaceAll("[^0-9]", "")),
-                    pair.replaceAll(".*\\((.*?)\\).*", "$1")));
+        int minimumNumber = -1;
+        if (hasNumReq && !hasTypeReq) {
+            minimumNumber = Integer.MAX_VALUE;
+            for (Requirement.LevelConstraint level : levels) {
+                minimumNumber = Math.min(minimumNumber, level.minimumNumber());
             }
         }
 
         for (String reqCourse : req.getCourseGroups()) {
-            List<Course> usedCourses = new ArrayList<>();
-            for (Course myCourse : coursesLeft) {
-                if (courseMatchesRequirement(reqCourse, myCourse, req.getGradeRequirement())) {
+            boolean wildcard = reqCourse.contains("XXX");
+            int[] candidates = wildcard
+                    ? index.department(TranscriptIndex.department(reqCourse), minimumNumber)
+                    : index.code(reqCourse);
+            for (int position : candidates) {
+                if (consumed.get(position)
+                        || (wildcard && wildcardExclusions.contains(index.number(position)))) {
+                    continue;
+                }
+                Course myCourse = index.get(position);
+                if (courseMatchesRequirement(myCourse, req.getMinimumGradePoints())) {
                     boolean qualifies = false;
                     int remainingNeeded = req.getNumNeeded() - numFulfilled;
                     if (!hasNumReq && !hasTypeReq) {
                         qualifies = processNoAdditionalRequirements(reqCourse, myCourse, courseList);
                     } else if (hasNumReq && !hasTypeReq) {
-                        qualifies = processNumberRequirements(myCourse, numRequirements, reqCourse, remainingNeeded, courseList);
+                        qualifies = processNumberRequirements(myCourse, levels, levelCounts, reqCourse, remainingNeeded, courseList);
                     } else if (!hasNumReq && hasTypeReq) {
-                        qualifies = processTypeRequirements(myCourse, typeRequirements, reqCourse, remainingNeeded, courseList);
+                        qualifies = processTypeRequirements(myCourse, attributes, attributeCounts, reqCourse, remainingNeeded, courseList);
                     } else { // both exist
-                        qualifies = processCombinedRequirements(myCourse, numRequirements, typeRequirements, reqCourse, remainingNeeded, courseList);
+                        qualifies = processCombinedRequirements(myCourse, levels, levelCounts, attributes, attributeCounts, reqCourse, remainingNeeded, courseList);
                     }
                     if (qualifies) {
-                        fulfilledCourses[numFulfilled] = myCourse.getCode();
-                        usedCourses.add(myCourse);
+                        fulfilledCourses.add(myCourse.getCode());
+                        consumed.set(position);
                         numFulfilled++;
                         if (numFulfilled >= req.getNumNeeded()) {
                             break;
@@ -252,79 +221,27 @@ public class Student {
                     }
                 }
             }
-            removeUsedCourses(coursesLeft, usedCourses);
             if (numFulfilled >= req.getNumNeeded()) {
                 break;
             }
         }
 
-        // Build the result string based on fulfillment
-        if (numFulfilled >= req.getNumNeeded()) {
-            result.append("[X] " + req.getTitle() + " (Completed)\n");
-            result.append("   Fulfilled by: " + String.join(", ", fulfilledCourses) + "\n");
-        } else if (numFulfilled > 0) {
-            result.append("[~] " + req.getTitle() + " (Partially Completed)\n");
-            String completed = Arrays.stream(fulfilledCourses)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.joining(", "));
-            result.append("   Completed: " + completed + "\n");
-            if (courseList.get(0).contains("XXX")){
-                result.append("   Still Needed: " + (req.getNumNeeded() - numFulfilled)
-                    + " of " + String.join("or ", courseList));
-            } else {
-                if (req.getNumNeeded() == courseList.size()) {
-                    result.append("   Still Needed: " + " All of: \n                    * " + String.join("\n                    * ", courseList));
-                } else {
-                    result.append("   Still Needed: " + (req.getNumNeeded() - numFulfilled)
-                            + " of: \n                    * " + String.join("\n                    * ", courseList));
-                }
-            }
-            result.append(formatRequirements(numRequirements, req.getNumberRequirements(), typeRequirements, req.getTypeRequirements()));
-            result.append(gradeRequirementSuffix(req.getGradeRequirement()) + "\n");
-        } else {
-            result.append("[ ] " + req.getTitle() + " (Not Completed)\n");
-            if (courseList.get(0).contains("XXX")){
-                result.append("   Still Needed: " + (req.getNumNeeded() - numFulfilled)
-                    + " of " + String.join("or ", courseList));
-            } else {
-                if (req.getNumNeeded() == courseList.size()) {
-                    result.append("   Still Needed: " + " All of: \n                    * " + String.join("\n                    * ", courseList));
-                } else {
-                    result.append("   Still Needed: " + (req.getNumNeeded() - numFulfilled)
-                            + " of: \n                    * " + String.join("\n                    * ", courseList));
-                }
-            }
-            result.append(formatRequirements(numRequirements, req.getNumberRequirements(), typeRequirements, req.getTypeRequirements()));
-            result.append(gradeRequirementSuffix(req.getGradeRequirement()) + "\n");
-        }
-        result.append("\n");
-
-        return result.toString();
+        return AuditResult.RequirementResult.ofCourses(id, req, fulfilledCourses, courseList, levelCounts, attributeCounts);
     }
 
     /**
-     * Checks if a course from the requirement matches the given Course based on basic criteria.
+     * Checks if a course whose code matches a course from the requirement was passed well enough to count.
      *
-     * @param reqCourse the course code (or pattern) from the requirement
      * @param myCourse the Course object to evaluate
-     * @param gradeRequirement the minimum grade requirement as a string
-     * @return true if the course matches the requirement; false otherwise
+     * @param minimumGradePoints the grade points of the minimum grade, or negative infinity if there is none
+     * @return true if the course meets the minimum grade and was not withdrawn from; false otherwise
      */
-    private boolean courseMatchesRequirement(String reqCourse, Course myCourse, String gradeRequirement) {
-        boolean basicMatch;
-        if (reqCourse.contains("XXX")) {
-            String prefix = reqCourse.substring(0, 3);
-            basicMatch = myCourse.getCode().contains(prefix)
-                    && !myCourse.getCode().contains("295H")
-                    && !myCourse.getCode().contains("296H")
-                    && !myCourse.getCode().contains("297H");
-        } else {
-            basicMatch = reqCourse.equals(myCourse.getCode());
-        }
-        boolean gradeOk = gradeRequirement.equals("") || compareGrades(myCourse.getGrade(), gradeRequirement);
-        return basicMatch && gradeOk && !myCourse.getGrade().equals("W");
+    private boolean courseMatchesRequirement(Course myCourse, double minimumGradePoints) {
+        boolean gradeOk = myCourse.getGradePoints() >= minimumGradePoints;
+        return gradeOk && !myCourse.getGrade().equals("W");
     }
 
+
     /**
      * Helper method for processing a course when no additional number or type requirements exist.
      *
@@ -344,26 +261,24 @@ public class Student {
      * Helper method for processing a course based on number requirements only.
      *
      * @param myCourse the Course object being evaluated
-     * @param numRequirements a list of number requirement pairs [count, threshold]
+     * @param levels the number requirements
+     * @param levelCounts the count still needed of each number requirement, parallel to levels
      * @param reqCourse the course code from the requirement
      * @param remainingNeeded the number of courses still needed
      * @param courseList the list of courses still needed for the requirement
      * @return true if the course meets the number requirements; false otherwise
      */
-    private boolean processNumberRequirements(Course myCourse, List<int[]> numRequirements, String reqCourse, int remainingNeeded, List<String> courseList) {
+    private boolean processNumberRequirements(Course myCourse, List<Requirement.LevelConstraint> levels, int[] levelCounts, String reqCourse, int remainingNeeded, List<String> courseList) {
         boolean qualifies = false;
-        for (int[] pair : numRequirements) {
-            int threshold = pair[1];
-            int countReq = pair[0];
-            int courseNumber = Integer.parseInt(myCourse.getCode().substring(4, 7));
-            if (courseNumber >= threshold) {
-                if (remainingNeeded >= countReq) {
+        for (int i = 0; i < levelCounts.length; i++) {
+            if (myCourse.getNumber() >= levels.get(i).minimumNumber()) {
+                if (remainingNeeded >= levelCounts[i]) {
                     qualifies = true;
                     if (!reqCourse.contains("XXX")) {
                         courseList.remove(reqCourse);
                     }
-                    if (pair[0] > 0) {
-                        pair[0] = pair[0] - 1;
+                    if (levelCounts[i] > 0) {
+                        levelCounts[i]--;
                     }
                 }
             }
@@ -375,26 +290,24 @@ public class Student {
      * Helper method for processing a course based on type requirements only.
      *
      * @param myCourse the Course object being evaluated
-     * @param typeRequirements a list of type requirement entries (count and type)
+     * @param attributes the type requirements
+     * @param attributeCounts the count still needed of each type requirement, parallel to attributes
      * @param reqCourse the course code from the requirement
      * @param remainingNeeded the number of courses still needed
      * @param courseList the list of courses still needed for the requirement
      * @return true if the course meets the type requirements; false otherwise
      */
-    private boolean processTypeRequirements(Course myCourse, List<Map.Entry<Integer, String>> typeRequirements, String reqCourse, int remainingNeeded, List<String> courseList) {
+    private boolean processTypeRequirements(Course myCourse, List<Requirement.AttributeConstraint> attributes, int[] attributeCounts, String reqCourse, int remainingNeeded, List<String> courseList) {
         boolean qualifies = false;
-        for (int i = 0; i < typeRequirements.size(); i++) {
-            Map.Entry<Integer, String> entry = typeRequirements.get(i);
-            for (String type : myCourse.getTypes()) {
-                if (entry.getValue().contains(type)) {
-                    if (remainingNeeded >= entry.getKey()) {
-                        qualifies = true;
-                        if (!reqCourse.contains("XXX")) {
-                            courseList.remove(reqCourse);
-                        }
-                        if (entry.getKey() > 0) {
-                            typeRequirements.set(i, Map.entry(entry.getKey() - 1, entry.getValue()));
-                        }
+        for (int i = 0; i < attributeCounts.length; i++) {
+            if (myCourse.hasAnyAttribute(attributes.get(i).mask())) {
+                if (remainingNeeded >= attributeCounts[i]) {
+                    qualifies = true;
+                    if (!reqCourse.contains("XXX")) {
+                        courseList.remove(reqCourse);
+                    }
+                    if (attributeCounts[i] > 0) {
+                        attributeCounts[i]--;
                     }
                 }
             }
@@ -406,36 +319,33 @@ public class Student {
      * Helper method for processing a course based on combined number and type requirements.
      *
      * @param myCourse the Course object being evaluated
-     * @param numRequirements a list of number requirement pairs [count, threshold]
-     * @param typeRequirements a list of type requirement entries (count and type)
+     * @param levels the number requirements
+     * @param levelCounts the count still needed of each number requirement, parallel to levels
+     * @param attributes the type requirements
+     * @param attributeCounts the count still needed of each type requirement, parallel to attributes
      * @param reqCourse the course code from the requirement
      * @param remainingNeeded the number of courses still needed
      * @param courseList the list of courses still needed for the requirement
      * @return true if the course meets the combined requirements; false otherwise
      */
-    private boolean processCombinedRequirements(Course myCourse, List<int[]> numRequirements, List<Map.Entry<Integer, String>> typeRequirements, String reqCourse, int remainingNeeded, List<String> courseList) {
+    private boolean processCombinedRequirements(Course myCourse, List<Requirement.LevelConstraint> levels, int[] levelCounts, List<Requirement.AttributeConstraint> attributes, int[] attributeCounts, String reqCourse, int remainingNeeded, List<String> courseList) {
         boolean qualifies = false;
-        for (int[] pair : numRequirements) {
-            int threshold = pair[1];
-            int countReq = pair[0];
-            int courseNumber = Integer.parseInt(myCourse.getCode().substring(4, 7));
-            if (courseNumber >= threshold) {
+        for (int level = 0; level < levelCounts.length; level++) {
+            int countReq = levelCounts[level];
+            if (myCourse.getNumber() >= levels.get(level).minimumNumber()) {
                 if (remainingNeeded >= countReq) {
                     qualifies = true;
-                    if (pair[0] > 0) {
-                        pair[0] = pair[0] - 1;
-                        for (int i = 0; i < typeRequirements.size(); i++) {
-                            Map.Entry<Integer, String> entry = typeRequirements.get(i);
-                            for (String type : myCourse.getTypes()) {
-                                if (entry.getValue().contains(type)) {
-                                    if (remainingNeeded >= entry.getKey()) {
-                                        qualifies = true;
-                                        if (entry.getKey() > 0) {
-                                            typeRequirements.set(i, Map.entry(entry.getKey() - 1, entry.getValue()));
-                                        }
-                                    } else {
-                                        qualifies = false;
+                    if (levelCounts[level] > 0) {
+                        levelCounts[level]--;
+                        for (int i = 0; i < attributeCounts.length; i++) {
+                            if (myCourse.hasAnyAttribute(attributes.get(i).mask())) {
+                                if (remainingNeeded >= attributeCounts[i]) {
+                                    qualifies = true;
+                                    if (attributeCounts[i] > 0) {
+                                        attributeCounts[i]--;
                                     }
+                                } else {
+                                    qualifies = false;
                                 }
                             }
                         }
@@ -443,18 +353,15 @@ public class Student {
                 }
             } else {
                 // Process type requirements if course number condition is not met.
-                for (int i = 0; i < typeRequirements.size(); i++) {
-                    Map.Entry<Integer, String> entry = typeRequirements.get(i);
-                    for (String type : myCourse.getTypes()) {
-                        if (type.equals(entry.getValue())) {
-                            if (remainingNeeded >= entry.getKey()) {
-                                qualifies = true;
-                                if (entry.getKey() > 0) {
-                                    typeRequirements.set(i, Map.entry(entry.getKey() - 1, entry.getValue()));
-                                }
-                            } else {
-                                qualifies = false;
+                for (int i = 0; i < attributeCounts.length; i++) {
+                    if (myCourse.hasAnyAttribute(attributes.get(i).mask())) {
+                        if (remainingNeeded >= attributeCounts[i]) {
+                            qualifies = true;
+                            if (attributeCounts[i] > 0) {
+                                attributeCounts[i]--;
                             }
+                        } else {
+                            qualifies = false;
                         }
                     }
                 }
@@ -467,219 +374,211 @@ public class Student {
     }
 
     /**
-     * Returns a suffix string to append when a grade requirement exists.
+     * Compares two grades based on a predefined grading scale.
      *
-     * @param gradeRequirement the minimum required grade
-     * @return a string representing the grade requirement suffix
+     * @param grade1 the first grade to compare
+     * @param grade2 the second grade to compare
+     * @return true if grade1 is greater than or equal to grade2, false otherwise
      */
-    private String gradeRequirementSuffix(String gradeRequirement) {
-        if (gradeRequirement.equals("")) {
-            return "";
-        }
-        return "\n                 with a minimum grade of " + gradeRequirement;
+    public static boolean compareGrades(String grade1, String grade2) {
+        return Course.gradePoints(grade1) >= Course.gradePoints(grade2);
     }
 
     /**
-     * Formats a list of sequences (each represented as an array) into a string.
+     * Returns a string representation of the student's academic data.
      *
-     * @param sequences a list of course sequence arrays
-     * @return a formatted string representing the sequences
+     * @return a string containing graduation year, courses, majors, and minors
      */
-    private String formatSequences(List<String[]> sequences) {
-        return sequences.stream()
-                .map(arr -> "\n                    * (" + String.join(", ", arr) + ")")
-                .collect(Collectors.joining(""));
+    @Override
+    public String toString() {
+        return "gradYr: " + gradYr + "\ncourses: " + courses + "\nmajors: " + majors + "\nminors: " + minors;
     }
 
     /**
-     * Combines the formatting for both number and type requirements.
+     * Generates a progress string representing the student's academic progress.
      *
-     * @param numRequirements a list of integer arrays representing number requirements
-     * @param numberRequirements the original number requirements string
-     * @param typeReqs a list of type requirement entries
-     * @param typeRequirements the original type requirements string
-     * @return a formatted string representing both number and type requirements
+     * @return a string detailing the student's graduation year and progress in majors and minors
      */
-    private String formatRequirements(ArrayList<int[]> numRequirements, String numberRequirements, 
-            ArrayList<Map.Entry<Integer, String>> typeReqs, String typeRequirements) {
-
-        if (numberRequirements.equals("") && typeRequirements.equals("")){
-            return "";
-        }
-
-        StringBuilder result = new StringBuilder(" consisting of:");
-
-        // First, check for special type requirements (WAC or WAC-R).
-        int specialCount = 0;
-        ArrayList<String> specialTypes = new ArrayList<>();
-        Iterator<Map.Entry<Integer, String>> iter = typeReqs.iterator();
-        while (iter.hasNext()) {
-            Map.Entry<Integer, String> entry = iter.next();
-            String type = entry.getValue();
-            if (type.equals("WAC") || type.equals("WAC-R")) {
-                specialCount += entry.getKey();
-                if (!specialTypes.contains(type)) {
-                    specialTypes.add(type);
-                }
-                iter.remove();
-            }
-        }
-        String specialTypeStr = "";
-        if (!specialTypes.isEmpty()) {
-            if (specialTypes.size() == 1) {
-                specialTypeStr = specialTypes.get(0);
-            } else {
-                specialTypeStr = String.join(" or ", specialTypes);
-            }
-        }
-
-        if (!numberRequirements.equals("")) {
-            StringBuilder sb = new StringBuilder("\n");
-            for (int i = 0; i < numRequirements.size(); i++) {
-                int[] pair = numRequirements.get(i);
-                int count = pair[0];
-                if (i < numRequirements.size() - 1) {
-                    count -= numRequirements.get(i + 1)[0];
-                }
-                if (count > 0) {
-                    if (pair[1] >= 300 && specialCount > 0) {
-                        int generalOnlyCount = count - specialCount;
-                        if (generalOnlyCount > 0) {
-                            sb.append("                    * ")
-                              .append(generalOnlyCount)
-                              .append(" course(s) numbered")
-                              .append(" >=")
-                              .append(pair[1])
-                              .append("\n");
-                        }
-                        sb.append("                    * ")
-                          .append(specialCount)
-                          .append(" course(s) numbered")
-                          .append(" >=")
-                          .append(pair[1])
-                          .append(" and is also a ")
-                          .append(specialTypeStr)
-                          .append("\n");
-                    } else {
-                        sb.append("                    * ")
-                          .append(count)
-                          .append(" course(s) numbered")
-                          .append(" >=")
-                          .append(pair[1])
-                          .append("\n");
-                    }
-                }
-            }
-            if (sb.length() > " consisting of:".length()) {
-                sb.setLength(sb.length() - 1);
-                result.append(sb);
-            }
-        }
-
-        if (!typeRequirements.equals("")) {
-            StringBuilder sb = new StringBuilder("\n");
-            for (Map.Entry<Integer, String> pair : typeReqs) {
-                if (pair.getKey() > 0) {
-                    sb.append("                    * ")
-                      .append(pair.getKey())
-                      .append(" course(s) must be typed ")
-                      .append(pair.getValue())
-                      .append(", ");
-                }
-            }
-            if (sb.length() > 1) {
-                sb.setLength(sb.length() - 2);
-                result.append(sb);
-            }
-        }
-
-        return result.toString();
+    public String getProgressString() {
+        return audit().toText();
     }
 
     /**
-     * Removes all courses from coursesLeft that appear in usedCourses.
+     * Generates a progress string representing the student's academic progress, with each concentration's
+     * courses assigned to its requirements by an {@link AssignmentEngine} rather than greedily in sheet order.
      *
-     * @param coursesLeft the list of courses that have not yet been used to fulfill requirements
-     * @param usedCourses the list of courses that were used to fulfill a requirement
+     * @param engine the engine assigning courses to requirements, or null to assign them greedily
+     * @return a string detailing the student's graduation year and progress in majors and minors
      */
-    private void removeUsedCourses(List<Course> coursesLeft, List<Course> usedCourses) {
-        coursesLeft.removeAll(usedCourses);
+    public String getProgressString(AssignmentEngine engine) {
+        return audit(engine).toText();
     }
 
     /**
-     * Compares two grades based on a predefined grading scale.
+     * Audits the student's courses against their majors and minors, each requirement in sheet order taking
+     * the first courses that fulfill it.
      *
-     * @param grade1 the first grade to compare
-     * @param grade2 the second grade to compare
-     * @return true if grade1 is greater than or equal to grade2, false otherwise
+     * @return the progress on every requirement
      */
-    public static boolean compareGrades(String grade1, String grade2) {
-        Map<String, Double> gradeScale = new HashMap<>(Map.ofEntries(
-                Map.entry("CIP", 4.3), Map.entry("N/A", 4.3), Map.entry("T", 4.3),
-                Map.entry("A", 4.0), Map.entry("A-", 3.7),
-                Map.entry("B+", 3.3), Map.entry("B", 3.0), Map.entry("B-", 2.7),
-                Map.entry("C+", 2.3), Map.entry("C", 2.0), Map.entry("C-", 1.7),
-                Map.entry("D+", 1.3), Map.entry("D", 1.0), Map.entry("D-", 0.7),
-                Map.entry("F", 0.0)
-        ));
-
-        return gradeScale.getOrDefault(grade1.trim(), -1.0) >= gradeScale.getOrDefault(grade2, -1.0);
+    public AuditResult audit() {
+        return audit(null);
     }
 
     /**
-     * Returns a string representation of the student's academic data.
+     * Audits the student's courses against their majors and minors.
      *
-     * @return a string containing graduation year, courses, majors, and minors
+     * @param engine the engine assigning courses to requirements, or null to assign them greedily
+     * @return the progress on every requirement
      */
-    @Override
-    public String toString() {
-        return "gradYr: " + gradYr + "\ncourses: " + courses + "\nmajors: " + majors + "\nminors: " + minors;
+    public AuditResult audit(AssignmentEngine engine) {
+        TranscriptIndex index = new TranscriptIndex(courses);
+        List<AuditResult.ConcentrationResult> majorResults = new ArrayList<>(majors.size());
+        for (Concentration major : majors) {
+            majorResults.add(engine == null ? getConcentrationProgress(major, index)
+                : getAssignedProgress(major, index, engine));
+        }
+        List<AuditResult.ConcentrationResult> minorResults = new ArrayList<>(minors.size());
+        for (Concentration minor : minors) {
+            minorResults.add(engine == null ? getConcentrationProgress(minor, index)
+                : getAssignedProgress(minor, index, engine));
+        }
+        return new AuditResult(gradYr, majorResults, minorResults);
     }
 
     /**
-     * Generates a progress string representing the student's academic progress.
+     * Returns the progress on a concentration whose courses are assigned by an engine.
      *
-     * @return a string detailing the student's graduation year and progress in majors and minors
+     * @param concentration the concentration (major or minor) to process
+     * @param index the student's courses, indexed by code, department and level
+     * @param engine the engine assigning courses to requirements
+     * @return the progress on each requirement of the concentration
      */
-    public String getProgressString() {
-        StringBuilder progress = new StringBuilder();
-        progress.append("\n======== Student Progress ========\n");
-        progress.append("Graduation Year: ").append(gradYr).append("\n");
-        progress.append("==================================\n\n");
-    
-        // Process majors
-        for (Concentration major : majors) {
-            progress.append("Major: ").append(major.getName()).append("\n");
-            progress.append(getConcentrationProgress(major));
-        }
-    
-        // Process minors
-        for (Concentration minor : minors) {
-            progress.append("Minor: ").append(minor.getName()).append("\n");
-            progress.append(getConcentrationProgress(minor));
+    private AuditResult.ConcentrationResult getAssignedProgress(Concentration concentration, TranscriptIndex index,
+            AssignmentEngine engine) {
+        List<Requirement> reqs = concentration.getReqs();
+        List<String> ids = requirementIds(concentration);
+        AssignmentEngine.Assignment assignment = engine.assign(reqs, index, concentration.getWildcardExclusions());
+        List<AuditResult.RequirementResult> results = new ArrayList<>(reqs.size());
+
+        for (int r = 0; r < reqs.size(); r++) {
+            Requirement req = reqs.get(r);
+            if (req.isSeq()) {
+                List<AuditResult.SequenceResult> sequences = new ArrayList<>();
+                for (int s = 0; s < req.getSequences().size(); s++) {
+                    Requirement subReq = req.getSequences().get(s);
+                    List<String> fulfilledCourses = new ArrayList<>(subReq.getNumNeeded());
+                    // List the courses in the order the sequence names them
+                    for (String course : subReq.getCourseGroups()) {
+                        for (int position : assignment.courses(r, s)) {
+                            if (fulfilledCourses.size() < subReq.getNumNeeded() && course.equals(index.get(position).getCode())) {
+                                fulfilledCourses.add(course);
+                            }
+                        }
+                    }
+                    sequences.add(new AuditResult.SequenceResult(
+                        subReq.getCourseGroups().subList(0, subReq.getNumNeeded()), fulfilledCourses));
+                }
+                results.add(AuditResult.RequirementResult.ofSequences(ids.get(r), req, sequences));
+            } else {
+                int[] assigned = assignment.courses(r);
+                List<String> fulfilledCourses = new ArrayList<>(assigned.length);
+                ArrayList<String> courseList = new ArrayList<>(req.getCourseGroups());
+                List<Requirement.LevelConstraint> levels = req.getLevelConstraints();
+                List<Requirement.AttributeConstraint> attributes = req.getAttributeConstraints();
+                int[] levelCounts = new int[levels.size()];
+                int[] attributeCounts = new int[attributes.size()];
+                for (int i = 0; i < levelCounts.length; i++) {
+                    levelCounts[i] = levels.get(i).count();
+                }
+                for (int i = 0; i < attributeCounts.length; i++) {
+                    attributeCounts[i] = attributes.get(i).count();
+                }
+                for (int position : assigned) {
+                    Course myCourse = index.get(position);
+                    fulfilledCourses.add(myCourse.getCode());
+                    courseList.remove(myCourse.getCode());
+                    for (int j = 0; j < levelCounts.length; j++) {
+                        if (levelCounts[j] > 0 && myCourse.getNumber() >= levels.get(j).minimumNumber()) {
+                            levelCounts[j]--;
+                        }
+                    }
+                    for (int j = 0; j < attributeCounts.length; j++) {
+                        if (attributeCounts[j] > 0 && myCourse.hasAnyAttribute(attributes.get(j).mask())) {
+                            attributeCounts[j]--;
+                        }
+                    }
+                }
+                results.add(AuditResult.RequirementResult.ofCourses(ids.get(r), req, fulfilledCourses, courseList,
+                    levelCounts, attributeCounts));
+            }
         }
-    
-        return progress.toString();
+
+        return new AuditResult.ConcentrationResult(concentration.getName(), concentration.isMajmin(), results);
     }
-    
+
     /**
-     * Returns the progress string for a specific concentration by processing its requirements.
+     * Returns the progress on a specific concentration by processing its requirements.
      *
      * @param concentration the concentration (major or minor) to process
-     * @return a string detailing the progress for the concentration
+     * @param index the student's courses, indexed by code, department and level
+     * @return the progress on each requirement of the concentration
      */
-    private String getConcentrationProgress(Concentration concentration) {
-        StringBuilder result = new StringBuilder();
-        List<Course> coursesLeft = new ArrayList<>(courses);
-    
-        for (Requirement req : concentration.getReqs()) {
+    private AuditResult.ConcentrationResult getConcentrationProgress(Concentration concentration, TranscriptIndex index) {
+        List<Requirement> reqs = concentration.getReqs();
+        List<String> ids = requirementIds(concentration);
+        List<AuditResult.RequirementResult> results = new ArrayList<>(reqs.size());
+        BitSet consumed = new BitSet(index.size());
+
+        for (int r = 0; r < reqs.size(); r++) {
+            Requirement req = reqs.get(r);
             if (req.isSeq()) {
-                result.append(processSequenceRequirement(req, coursesLeft));
+                results.add(processSequenceRequirement(ids.get(r), req, index, consumed));
             } else {
-                result.append(processNonSequenceRequirement(req, coursesLeft));
+                results.add(processNonSequenceRequirement(ids.get(r), req, index, consumed, concentration.getWildcardExclusions()));
             }
         }
-    
-        return result.toString();
+
+        return new AuditResult.ConcentrationResult(concentration.getName(), concentration.isMajmin(), results);
+    }
+
+    /**
+     * Returns an id for each requirement of a concentration that is stable across audits and unique within
+     * one, e.g. "major/computer-science/electives". A title used twice in a concentration gets "-2" and so on.
+     *
+     * @param concentration the concentration (major or minor)
+     * @return the ids, parallel to the concentration's requirements
+     */
+    private static List<String> requirementIds(Concentration concentration) {
+        String prefix = (concentration.isMajmin() ? "minor/" : "major/") + slug(concentration.getName()) + "/";
+        List<String> ids = new ArrayList<>(concentration.getReqs().size());
+        Map<String, Integer> uses = new HashMap<>();
+        for (Requirement req : concentration.getReqs()) {
+            String id = prefix + slug(req.getTitle());
+            int use = uses.merge(id, 1, Integer::sum);
+            ids.add(use == 1 ? id : id + "-" + use);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a name in lower case with each run of other characters than letters and digits as one dash.
+     *
+     * @param name the name, e.g. "Computer Science"
+     * @return the slug, e.g. "computer-science"
+     */
+    private static String slug(String name) {
+        StringBuilder slug = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                slug.append(c);
+            } else if (slug.length() > 0 && slug.charAt(slug.length() - 1) != '-') {
+                slug.append('-');
+            }
+        }
+        if (slug.length() > 0 && slug.charAt(slug.length() - 1) == '-') {
+            slug.setLength(slug.length() - 1);
+        }
+        return slug.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.example.backend;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches parsed transcripts by the SHA-256 of their PDF bytes, so re-uploading the same transcript
+ * skips PDFBox and the parser entirely. Concurrent uploads of the same bytes share a single parse.
+ * Hit, miss and eviction counts are published as the {@code cache.*} metrics with {@code cache=transcripts}.
+ */
+@Service
+public class TranscriptCache {
+
+    /**
+     * The name the cache metrics are tagged with.
+     */
+    static final String CACHE_NAME = "transcripts";
+
+    /**
+     * The parsed courses of each cached transcript, keyed by the hex SHA-256 of its PDF bytes.
+     * Failed parses complete exceptionally and are removed from the cache automatically.
+     */
+    private final AsyncCache<String, List<Course>> cache;
+
+    /**
+     * The memory budget and size limits transcripts are loaded with.
+     */
+    private final TranscriptLoadLimits limits;
+
+    /**
+     * The stage metrics parses are recorded to.
+     */
+    private final TranscriptMetrics metrics;
+
+    /**
+     * Constructs the cache from configuration and registers its metrics.
+     *
+     * @param maximumSize the maximum number of transcripts kept
+     * @param expireAfterAccess how long a transcript is kept after it was last used
+     * @param limits the memory budget and size limits transcripts are loaded with
+     * @param metrics the stage metrics parses are recorded to
+     * @param registry the registry the cache metrics are published to
+     */
+    public TranscriptCache(
+            @Value("${transcript.cache.maximum-size:256}") long maximumSize,
+            @Value("${transcript.cache.expire-after-access:30m}") Duration expireAfterAccess,
+            TranscriptLoadLimits limits,
+            TranscriptMetrics metrics,
+            MeterRegistry registry) {
+        this.limits = limits;
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(expireAfterAccess)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the courses on a PDF transcript, parsing it only if the same bytes have not been seen.
+     * If another thread is already parsing the same bytes, this waits for its result instead.
+     *
+     * @param pdf the contents of the PDF file
+     * @return a new list of the courses on the transcript, in transcript order
+     * @throws TranscriptTooLargeException if the PDF exceeds the byte or page limit
+     * @throws IOException if the PDF cannot be read
+     */
+    public ArrayList<Course> getCourses(byte[] pdf) throws IOException {
+        CompletableFuture<List<Course>> parse = new CompletableFuture<>();
+        CompletableFuture<List<Course>> cached = cache.get(sha256(pdf), (key, executor) -> parse);
+
+        // Only the caller whose future was installed parses; everyone else waits on it. The future is
+        // completed whatever the parse throws, even an Error such as a StackOverflowError from a crafted
+        // PDF, so waiters never hang and the failed entry is dropped from the cache
+        if (cached == parse) {
+            try {
+                parse.complete(List.copyOf(PDFParser.parseCourses(pdf, limits, metrics)));
+            } catch (Throwable e) {
+                parse.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return new ArrayList<>(cached.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of transcripts currently cached.
+     *
+     * @return the approximate number of cached transcripts
+     */
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * Computes the hex SHA-256 digest of the given bytes.
+     *
+     * @param bytes the bytes to digest
+     * @return the lowercase hex digest
+     */
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
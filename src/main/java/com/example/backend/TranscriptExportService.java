@@ -0,0 +1,114 @@
+package com.example.backend;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Exports parsed transcripts as Excel sheets in the background. Exporting is opt-in
+ * ({@code transcript.export.enabled}); each export is written to its own file so concurrent
+ * uploads never overwrite each other, and the upload response never waits for the write.
+ */
+@Service
+public class TranscriptExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TranscriptExportService.class);
+
+    /**
+     * Whether parsed transcripts are exported at all.
+     */
+    private final boolean enabled;
+
+    /**
+     * The directory the exported sheets are written to.
+     */
+    private final Path outputDir;
+
+    /**
+     * The background writer that performs the exports.
+     */
+    private final BackgroundWriter writer;
+
+    /**
+     * The stage metrics exports are recorded to.
+     */
+    private final TranscriptMetrics metrics;
+
+    /**
+     * Constructs the export service from configuration.
+     *
+     * @param enabled whether parsed transcripts are exported
+     * @param outputDir the directory the exported sheets are written to
+     * @param queueCapacity the maximum number of exports waiting to be written
+     * @param metrics the stage metrics exports are recorded to
+     */
+    public TranscriptExportService(
+            @Value("${transcript.export.enabled:false}") boolean enabled,
+            @Value("${transcript.export.dir:output}") String outputDir,
+            @Value("${transcript.export.queue-capacity:16}") int queueCapacity,
+            TranscriptMetrics metrics) {
+        this.enabled = enabled;
+        this.outputDir = Paths.get(outputDir);
+        this.writer = new BackgroundWriter("transcript-export", queueCapacity);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Queues an export of the given courses, if exporting is enabled.
+     *
+     * @param courses the courses parsed from a transcript
+     * @return the path the sheet will be written to, or null if it will not be written
+     */
+    public Path export(List<Course> courses) {
+        if (!enabled) {
+            return null;
+        }
+
+        List<Course> snapshot = List.copyOf(courses);
+        Path target = outputDir.resolve("ParsedTranscript-" + UUID.randomUUID() + ".xlsx");
+        boolean queued = writer.submit(target.toString(), () -> write(snapshot, target));
+        return queued ? target : null;
+    }
+
+    /**
+     * Writes the courses to a temporary file with the streaming sheet writer, then moves it into place,
+     * so a partially written file is never visible under its final name.
+     *
+     * @param courses the courses to write
+     * @param target the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    private void write(List<Course> courses, Path target) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(outputDir);
+        Path temp = Files.createTempFile(outputDir, "ParsedTranscript-", ".xlsx.tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                PDFParser.writeCourseSheet(courses, out);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            metrics.record(TranscriptMetrics.Stage.WRITE, 0, courses.size(), System.nanoTime() - start);
+            log.debug("Exported transcript to {}", target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Waits briefly for queued exports to finish when the application shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        writer.close();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.backend;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The TranscriptIndex class indexes a student's courses by code, and by department and level, when an audit
+ * starts. A requirement naming a course such as "CSC-120" finds the student's attempts at it with one hash
+ * lookup, and a wildcard requirement such as "CSC-XXX", with the level thresholds that often come with it,
+ * fetches its candidate courses from a few buckets, so neither scans the whole transcript. Courses are
+ * identified by their position on the transcript, so the audit tracks the courses each concentration has
+ * used as a bit set.
+ *
+ * Each department has one bucket per hundred-level, from the 000s to the 900s, and one for courses whose
+ * code has no number, such as the AP equivalent "CSC-11X". Buckets hold transcript positions in ascending
+ * order, so the candidates of several buckets merge back into transcript order, the order in which the
+ * audit has always considered courses.
+ */
+final class TranscriptIndex {
+
+    /**
+     * The number of buckets of each department: one for unnumbered courses and one per hundred-level.
+     */
+    private static final int BUCKETS = 11;
+
+    /**
+     * No positions.
+     */
+    private static final int[] NONE = new int[0];
+
+    /**
+     * The courses on the transcript, in transcript order.
+     */
+    private final List<Course> courses;
+
+    /**
+     * The positions of each course code, in ascending order, more than one for a course taken again.
+     */
+    private final Map<String, int[]> codes;
+
+    /**
+     * The buckets of each department, keyed by the part of the code before the dash, e.g. "CSC".
+     */
+    private final Map<String, int[][]> departments;
+
+    /**
+     * Indexes a transcript.
+     *
+     * @param courses the courses on the transcript, which must not change while the index is in use
+     */
+    TranscriptIndex(List<Course> courses) {
+        this.courses = courses;
+        this.codes = new HashMap<>();
+        this.departments = new HashMap<>();
+
+        // Courses are rarely taken more than twice, and a department rarely has more than a few courses
+        // in one level, so each array grows by one and is always exactly full
+        for (int i = 0; i < courses.size(); i++) {
+            Course course = courses.get(i);
+            String code = course.getCode();
+            codes.put(code, append(codes.getOrDefault(code, NONE), i));
+
+            String department = department(code);
+            int[][] buckets = departments.get(department);
+            if (buckets == null) {
+                buckets = new int[BUCKETS][];
+                Arrays.fill(buckets, NONE);
+                departments.put(department, buckets);
+            }
+            int bucket = bucket(course);
+            buckets[bucket] = append(buckets[bucket], i);
+        }
+    }
+
+    /**
+     * Returns the number of courses on the transcript.
+     *
+     * @return the number of courses
+     */
+    int size() {
+        return courses.size();
+    }
+
+    /**
+     * Returns the course at a position.
+     *
+     * @param position the position on the transcript
+     * @return the course
+     */
+    Course get(int position) {
+        return courses.get(position);
+    }
+
+    /**
+     * Returns the course number at a position, the part of the code after the department.
+     *
+     * @param position the position on the transcript
+     * @return the course number, e.g. "295H" for CSC-295H, or an empty string if the code has no dash
+     */
+    String number(int position) {
+        String code = courses.get(position).getCode();
+        int dash = code.indexOf('-');
+        return dash < 0 ? "" : code.substring(dash + 1);
+    }
+
+    /**
+     * Returns the positions of the courses with a course code.
+     *
+     * @param code the course code, e.g. "CSC-120"
+     * @return the positions in ascending order, empty if the student has not taken the course, which must
+     *         not be modified
+     */
+    int[] code(String code) {
+        return codes.getOrDefault(code, NONE);
+    }
+
+    /**
+     * Returns the positions of a department's courses numbered in or above the hundred-level of a
+     * threshold, e.g. every CSC course in the 300s and up for CSC and 350. Courses in the threshold's own
+     * hundred-level may still be numbered below it, so callers compare the numbers themselves.
+     *
+     * @param department the department, e.g. "CSC"
+     * @param minimumNumber the lowest course number wanted, or a negative number for every course
+     *                      including those without a number
+     * @return the positions in ascending order, which must not be modified
+     */
+    int[] department(String department, int minimumNumber) {
+        int[][] buckets = departments.get(department);
+        if (buckets == null) {
+            return NONE;
+        }
+        int from = minimumNumber < 0 ? 0 : 1 + Math.min(minimumNumber / 100, BUCKETS - 1);
+
+        int total = 0;
+        int[] only = NONE;
+        for (int b = from; b < BUCKETS; b++) {
+            if (buckets[b].length > 0) {
+                total += buckets[b].length;
+                only = buckets[b];
+            }
+        }
+        if (total == only.length) {
+            return only;
+        }
+        int[] positions = new int[total];
+        int length = 0;
+        for (int b = from; b < BUCKETS; b++) {
+            System.arraycopy(buckets[b], 0, positions, length, buckets[b].length);
+            length += buckets[b].length;
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Returns the department of a course code or wildcard, the part before the dash.
+     *
+     * @param code the course code, e.g. "CSC-120" or "CSC-XXX"
+     * @return the department, e.g. "CSC", or the whole code if it has no dash
+     */
+    static String department(String code) {
+        int dash = code.indexOf('-');
+        return dash < 0 ? code : code.substring(0, dash);
+    }
+
+    /**
+     * Returns a copy of an array of positions with one more position at the end.
+     *
+     * @param positions the positions
+     * @param position the position to add
+     * @return the longer array
+     */
+    private static int[] append(int[] positions, int position) {
+        int[] appended = Arrays.copyOf(positions, positions.length + 1);
+        appended[positions.length] = position;
+        return appended;
+    }
+
+    /**
+     * Returns the bucket of a course within its department.
+     *
+     * @param course the course
+     * @return 0 for a course without a number, otherwise 1 plus its hundred-level
+     */
+    private static int bucket(Course course) {
+        return course.getNumber() < 0 ? 0 : 1 + course.getNumber() / 100;
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.backend;
+
+/**
+ * The TranscriptLexer class classifies transcript lines with a hand-written character scanner.
+ * Each line is scanned in place, without trimming or compiling a regular expression, and is
+ * classified exactly once into a {@link LineKind}.
+ */
+public class TranscriptLexer {
+
+    // Course line shape: three letters, a space, three digits, an optional letter, then a space
+    private static final int COURSE_LINE_LETTER_COUNT = 3;
+    private static final int COURSE_LINE_DIGIT_COUNT = 3;
+
+    // Term header shape: "Term " followed by a four digit year anywhere in the line
+    private static final String TERM_KEYWORD = "Term ";
+    private static final int TERM_YEAR_DIGIT_COUNT = 4;
+
+    // Course type shape: three to six capital letters or dashes
+    private static final int COURSE_TYPE_MIN_LENGTH = 3;
+    private static final int COURSE_TYPE_MAX_LENGTH = 6;
+
+    /**
+     * Classifies a line and returns a token referring to its trimmed bounds.
+     *
+     * @param line the line to lex
+     * @return a token holding the line kind and its trimmed bounds
+     */
+    public static TranscriptToken lex(String line) {
+        int start = trimStart(line);
+        int end = trimEnd(line, start);
+        LineKind kind = classify(line, start, end);
+        int termOffset = kind == LineKind.TERM_HEADER ? findTermYear(line, start, end) : -1;
+        return new TranscriptToken(kind, line, start, end, termOffset);
+    }
+
+    /**
+     * Classifies a line without allocating.
+     *
+     * @param line the line to classify
+     * @return the kind of the line
+     */
+    public static LineKind classify(String line) {
+        int start = trimStart(line);
+        return classify(line, start, trimEnd(line, start));
+    }
+
+    /**
+     * Checks if a line matches the course line shape.
+     *
+     * @param line the line to check
+     * @return true if the line is a course line, false otherwise
+     */
+    public static boolean isCourseLine(String line) {
+        int start = trimStart(line);
+        return isCourseLine(line, start, trimEnd(line, start));
+    }
+
+    /**
+     * Checks if a line contains a term header.
+     *
+     * @param line the line to check
+     * @return true if the line is a term header, false otherwise
+     */
+    public static boolean isTermHeader(String line) {
+        int start = trimStart(line);
+        return findTermYear(line, start, trimEnd(line, start)) >= 0;
+    }
+
+    /**
+     * Checks if a line matches the course type shape.
+     *
+     * @param line the line to check
+     * @return true if the line is a course type, false otherwise
+     */
+    public static boolean isCourseType(String line) {
+        int start = trimStart(line);
+        return isCourseType(line, start, trimEnd(line, start));
+    }
+
+    /**
+     * Classifies the trimmed region of a line.
+     *
+     * @param line the line to classify
+     * @param start the first non-whitespace index
+     * @param end the index after the last non-whitespace character
+     * @return the kind of the line
+     */
+    private static LineKind classify(String line, int start, int end) {
+        if (isCourseLine(line, start, end)) {
+            return LineKind.COURSE;
+        }
+        if (findTermYear(line, start, end) >= 0) {
+            return LineKind.TERM_HEADER;
+        }
+        if (isCourseType(line, start, end)) {
+            return LineKind.COURSE_TYPE;
+        }
+        return LineKind.OTHER;
+    }
+
+    /**
+     * Scans for a course code such as {@code CSC 105} or {@code FYI 100H} followed by a space.
+     */
+    private static boolean isCourseLine(String line, int start, int end) {
+        int pos = start;
+        for (int i = 0; i < COURSE_LINE_LETTER_COUNT; i++, pos++) {
+            if (pos >= end || !isUpper(line.charAt(pos))) {
+                return false;
+            }
+        }
+        if (pos >= end || line.charAt(pos++) != ' ') {
+            return false;
+        }
+        for (int i = 0; i < COURSE_LINE_DIGIT_COUNT; i++, pos++) {
+            if (pos >= end || !isDigit(line.charAt(pos))) {
+                return false;
+            }
+        }
+        if (pos < end && isUpper(line.charAt(pos))) {
+            pos++;
+        }
+        return pos < end && line.charAt(pos) == ' ';
+    }
+
+    /**
+     * Scans for three to six capital letters or dashes making up the entire trimmed line.
+     */
+    private static boolean isCourseType(String line, int start, int end) {
+        int length = end - start;
+        if (length < COURSE_TYPE_MIN_LENGTH || length > COURSE_TYPE_MAX_LENGTH) {
+            return false;
+        }
+        for (int pos = start; pos < end; pos++) {
+            char c = line.charAt(pos);
+            if (!isUpper(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the four digit year following {@code "Term "} in the trimmed region of a line.
+     *
+     * @return the index of the first year digit, or -1 if the line is not a term header
+     */
+    private static int findTermYear(String line, int start, int end) {
+        int from = start;
+        while (true) {
+            int keyword = line.indexOf(TERM_KEYWORD, from);
+            if (keyword < 0) {
+                return -1;
+            }
+            int year = keyword + TERM_KEYWORD.length();
+            if (year + TERM_YEAR_DIGIT_COUNT > end) {
+                return -1;
+            }
+            boolean digits = true;
+            for (int pos = year; pos < year + TERM_YEAR_DIGIT_COUNT; pos++) {
+                if (!isDigit(line.charAt(pos))) {
+                    digits = false;
+                    break;
+                }
+            }
+            if (digits) {
+                return year;
+            }
+            from = keyword + 1;
+        }
+    }
+
+    private static int trimStart(String line) {
+        int start = 0;
+        while (start < line.length() && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String line, int start) {
+        int end = line.length();
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The TranscriptLineStream class filters and associates transcript lines as they are extracted,
+ * one column line at a time, so only the course and term tokens are retained in memory.
+ * Each line is lexed exactly once. The stream also detects the end of the transcript so
+ * extraction can stop before any trailing pages.
+ */
+public class TranscriptLineStream {
+
+    /**
+     * Markers that follow the transcript's last term block.
+     */
+    private static final String[] END_OF_TRANSCRIPT_MARKERS = {"Gened and WAC table", "END OF RECORD"};
+
+    /**
+     * The term header and course tokens produced so far.
+     */
+    private final List<TranscriptToken> tokens = new ArrayList<>();
+
+    /**
+     * The most recent course token, held until its trailing course type lines have been seen.
+     */
+    private TranscriptToken lastCourse;
+
+    /**
+     * Indicates whether the end of the transcript has been reached.
+     */
+    private boolean complete;
+
+    /**
+     * Accepts a single column line, keeping it only if it is a course line, term header, or course type.
+     * Course type lines are appended to the preceding course line.
+     *
+     * @param line the column line to process
+     */
+    public void accept(String line) {
+        if (complete) {
+            return;
+        }
+        if (isEndOfTranscript(line)) {
+            endColumn();
+            complete = true;
+            return;
+        }
+
+        TranscriptToken token = TranscriptLexer.lex(line);
+        switch (token.getKind()) {
+            case COURSE -> {
+                endColumn();
+                lastCourse = token;
+            }
+            case COURSE_TYPE -> {
+                if (lastCourse != null) {
+                    lastCourse.addCourseType(token);
+                }
+            }
+            case TERM_HEADER -> {
+                endColumn();
+                tokens.add(token);
+            }
+            case OTHER -> { }
+        }
+    }
+
+    /**
+     * Marks the end of a column, flushing any pending course line.
+     * Course types never continue across a column break.
+     */
+    public void endColumn() {
+        if (lastCourse != null) {
+            tokens.add(lastCourse);
+            lastCourse = null;
+        }
+    }
+
+    /**
+     * Indicates whether the end of the transcript has been reached, meaning no further pages need extracting.
+     *
+     * @return true if the transcript is complete, false otherwise
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns the tokens collected so far.
+     *
+     * @return a list of term header and course tokens, with course types attached to their courses
+     */
+    public List<TranscriptToken> getTokens() {
+        endColumn();
+        return tokens;
+    }
+
+    /**
+     * Checks if a line marks the end of the transcript's term blocks.
+     *
+     * @param line the line to check
+     * @return true if the line is an end of transcript marker, false otherwise
+     */
+    private static boolean isEndOfTranscript(String line) {
+        for (String marker : END_OF_TRANSCRIPT_MARKERS) {
+            if (line.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.backend;
+
+import java.io.File;
+import java.io.IOException;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * The TranscriptLoadLimits class loads transcript PDFs within a fixed memory budget and size limits.
+ * Each document buffers at most {@code transcript.load.main-memory} of its data in the heap on top of
+ * the PDF bytes themselves, which are held in full, and spills the rest to a scratch file. The heap used
+ * by transcripts is therefore bounded by the transcripts held at once, running or queued, times
+ * {@code transcript.load.max-bytes}, plus the running parses times the budget. PDFs larger than
+ * {@code transcript.load.max-bytes} or with more than {@code transcript.load.max-pages} pages are
+ * rejected with a {@link TranscriptTooLargeException}.
+ */
+@Component
+public class TranscriptLoadLimits {
+
+    /**
+     * The largest transcript PDF accepted by default.
+     */
+    private static final DataSize DEFAULT_MAX_BYTES = DataSize.ofMegabytes(10);
+
+    /**
+     * The most pages a transcript PDF may have by default.
+     */
+    private static final int DEFAULT_MAX_PAGES = 20;
+
+    /**
+     * The heap each document may buffer by default before spilling to a scratch file.
+     */
+    private static final DataSize DEFAULT_MAIN_MEMORY = DataSize.ofMegabytes(4);
+
+    /**
+     * The limits used when none are configured, such as by the command-line entry points.
+     */
+    private static final TranscriptLoadLimits DEFAULTS =
+        new TranscriptLoadLimits(DEFAULT_MAX_BYTES, DEFAULT_MAX_PAGES, DEFAULT_MAIN_MEMORY, "");
+
+    /**
+     * The largest transcript PDF accepted, in bytes.
+     */
+    private final long maxBytes;
+
+    /**
+     * The most pages a transcript PDF may have.
+     */
+    private final int maxPages;
+
+    /**
+     * The heap each document may buffer before spilling to a scratch file, in bytes.
+     */
+    private final long mainMemoryBytes;
+
+    /**
+     * The directory scratch files are created in, or null for the system temporary directory.
+     */
+    private final File scratchDir;
+
+    /**
+     * Constructs the load limits from configuration.
+     *
+     * @param maxBytes the largest transcript PDF accepted
+     * @param maxPages the most pages a transcript PDF may have
+     * @param mainMemory the heap each document may buffer before spilling to a scratch file
+     * @param scratchDir the directory scratch files are created in, or blank for the system temporary directory
+     */
+    public TranscriptLoadLimits(
+            @Value("${transcript.load.max-bytes:10MB}") DataSize maxBytes,
+            @Value("${transcript.load.max-pages:20}") int maxPages,
+            @Value("${transcript.load.main-memory:4MB}") DataSize mainMemory,
+            @Value("${transcript.load.scratch-dir:}") String scratchDir) {
+        this.maxBytes = maxBytes.toBytes();
+        this.maxPages = maxPages;
+        this.mainMemoryBytes = mainMemory.toBytes();
+        this.scratchDir = scratchDir == null || scratchDir.isBlank() ? null : new File(scratchDir);
+    }
+
+    /**
+     * Returns the limits used when none are configured.
+     *
+     * @return the default load limits
+     */
+    public static TranscriptLoadLimits defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Loads a transcript PDF held in memory. The caller must close the returned document.
+     *
+     * @param pdf the contents of the PDF file
+     * @return the loaded document
+     * @throws TranscriptTooLargeException if the PDF exceeds the byte or page limit
+     * @throws IOException if the PDF cannot be read
+     */
+    public PDDocument load(byte[] pdf) throws IOException {
+        checkSize(pdf.length);
+        return checkPages(PDDocument.load(pdf, "", null, null, memoryUsage()));
+    }
+
+    /**
+     * Loads a transcript PDF from a file. The caller must close the returned document.
+     *
+     * @param file the PDF file
+     * @return the loaded document
+     * @throws TranscriptTooLargeException if the PDF exceeds the byte or page limit
+     * @throws IOException if the PDF cannot be read
+     */
+    public PDDocument load(File file) throws IOException {
+        checkSize(file.length());
+        return checkPages(PDDocument.load(file, memoryUsage()));
+    }
+
+    /**
+     * Rejects a PDF larger than the byte limit before any of it is parsed.
+     *
+     * @param bytes the size of the PDF in bytes
+     * @throws TranscriptTooLargeException if the PDF exceeds the byte limit
+     */
+    public void checkSize(long bytes) throws TranscriptTooLargeException {
+        if (bytes > maxBytes) {
+            throw new TranscriptTooLargeException(
+                "Transcript is " + bytes + " bytes; the limit is " + maxBytes + " bytes");
+        }
+    }
+
+    /**
+     * Returns the largest transcript PDF accepted.
+     *
+     * @return the byte limit
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the most pages a transcript PDF may have.
+     *
+     * @return the page limit
+     */
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Closes and rejects a loaded document with more pages than the page limit.
+     *
+     * @param document the loaded document
+     * @return the document, if it is within the page limit
+     * @throws TranscriptTooLargeException if the document exceeds the page limit
+     * @throws IOException if the document cannot be closed
+     */
+    private PDDocument checkPages(PDDocument document) throws IOException {
+        int pages = document.getNumberOfPages();
+        if (pages > maxPages) {
+            document.close();
+            throw new TranscriptTooLargeException(
+                "Transcript has " + pages + " pages; the limit is " + maxPages + " pages");
+        }
+        return document;
+    }
+
+    /**
+     * Creates the memory setting for one document: heap up to the budget, then a scratch file.
+     *
+     * @return a new memory setting
+     */
+    private MemoryUsageSetting memoryUsage() {
+        MemoryUsageSetting setting = MemoryUsageSetting.setupMixed(mainMemoryBytes);
+        return scratchDir == null ? setting : setting.setTempDir(scratchDir);
+    }
+}
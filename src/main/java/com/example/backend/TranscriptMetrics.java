@@ -0,0 +1,189 @@
+package com.example.backend;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * The TranscriptMetrics class times each stage of parsing and auditing a transcript, published as the
+ * {@code transcript.stage} timer tagged with the stage and with the one transcript size that drives the
+ * stage's cost: the page count for stages that read the PDF, and the course count for the rest. Sizes
+ * are bucketed so the number of timers stays small and fixed. The timings are served under
+ * {@code /actuator/metrics/transcript.stage}.
+ *
+ * Every combination of tags is registered up front, so recording a stage only indexes into an array
+ * and never allocates; callers measure with {@link System#nanoTime()} and record the elapsed nanoseconds.
+ */
+@Component
+public class TranscriptMetrics {
+
+    /**
+     * The name of the stage timer.
+     */
+    static final String TIMER_NAME = "transcript.stage";
+
+    /**
+     * The stages of parsing and auditing a transcript.
+     */
+    public enum Stage {
+        /** Loading the PDF document. */
+        LOAD("load", true),
+        /** Stripping the text of the whole document. */
+        STRIP("strip", true),
+        /** Splitting the stripped text into its two columns. */
+        REORDER("reorder", true),
+        /** Keeping only course, term header and course type lines. */
+        FILTER("filter", true),
+        /** Attaching course types to their courses. */
+        ASSOCIATE("associate", false),
+        /** Extracting the column regions of each page into tokens. */
+        EXTRACT("extract", true),
+        /** Building Course objects from tokens. */
+        BUILD("build", false),
+        /** Building the transcript sheet in memory. */
+        SHEET("sheet", false),
+        /** Writing the transcript sheet to disk. */
+        WRITE("write", false),
+        /** Reading courses from a transcript sheet. */
+        READ_SHEET("read-sheet", false),
+        /** Auditing the courses against the selected majors and minors. */
+        AUDIT("audit", false);
+
+        /**
+         * The value of the stage tag.
+         */
+        private final String tag;
+
+        /**
+         * Whether the stage is tagged by page count rather than course count.
+         */
+        private final boolean byPages;
+
+        /**
+         * Constructs a stage with its tag value.
+         *
+         * @param tag the value of the stage tag
+         * @param byPages whether the stage is tagged by page count rather than course count
+         */
+        Stage(String tag, boolean byPages) {
+            this.tag = tag;
+            this.byPages = byPages;
+        }
+    }
+
+    /**
+     * The page count buckets; "unknown" is used where the page count is not available, such as the audit.
+     */
+    private static final String[] PAGE_BUCKETS = {"unknown", "1", "2", "3-4", "5-8", "9+"};
+
+    /**
+     * The course count buckets.
+     */
+    private static final String[] COURSE_BUCKETS = {"0-9", "10-24", "25-49", "50-99", "100+"};
+
+    /**
+     * The stage metrics of code outside the application context, such as the command-line entry
+     * points, which are only published if a registry has been added to the global registry.
+     */
+    private static volatile TranscriptMetrics global;
+
+    /**
+     * The timers of each stage, indexed by stage ordinal and then by page or course bucket.
+     */
+    private final Timer[][] timers;
+
+    /**
+     * Constructs the stage metrics and registers every stage timer.
+     *
+     * @param registry the registry the timers are published to
+     */
+    public TranscriptMetrics(MeterRegistry registry) {
+        Stage[] stages = Stage.values();
+        this.timers = new Timer[stages.length][];
+        for (Stage stage : stages) {
+            String sizeTag = stage.byPages ? "pages" : "courses";
+            String[] buckets = stage.byPages ? PAGE_BUCKETS : COURSE_BUCKETS;
+            timers[stage.ordinal()] = new Timer[buckets.length];
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                timers[stage.ordinal()][bucket] = Timer.builder(TIMER_NAME)
+                    .description("Time spent in each stage of parsing and auditing a transcript")
+                    .tag("stage", stage.tag)
+                    .tag(sizeTag, buckets[bucket])
+                    .register(registry);
+            }
+        }
+    }
+
+    /**
+     * Returns the stage metrics backed by Micrometer's global registry, for code that is not given
+     * the application's metrics.
+     *
+     * @return the global stage metrics
+     */
+    public static TranscriptMetrics global() {
+        TranscriptMetrics metrics = global;
+        if (metrics == null) {
+            synchronized (TranscriptMetrics.class) {
+                metrics = global;
+                if (metrics == null) {
+                    metrics = new TranscriptMetrics(Metrics.globalRegistry);
+                    global = metrics;
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Records the time spent in one stage of a transcript.
+     *
+     * @param stage the stage
+     * @param pages the number of pages of the transcript, or 0 if not known
+     * @param courses the number of courses on the transcript
+     * @param nanos the time spent in the stage, in nanoseconds
+     */
+    public void record(Stage stage, int pages, int courses, long nanos) {
+        int bucket = stage.byPages ? pageBucket(pages) : courseBucket(courses);
+        timers[stage.ordinal()][bucket].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the bucket of a page count.
+     *
+     * @param pages the number of pages, or 0 if not known
+     * @return the index of the page count bucket
+     */
+    private static int pageBucket(int pages) {
+        if (pages <= 0) {
+            return 0;
+        } else if (pages <= 2) {
+            return pages;
+        } else if (pages <= 4) {
+            return 3;
+        } else if (pages <= 8) {
+            return 4;
+        }
+        return 5;
+    }
+
+    /**
+     * Returns the bucket of a course count.
+     *
+     * @param courses the number of courses
+     * @return the index of the course count bucket
+     */
+    private static int courseBucket(int courses) {
+        if (courses < 10) {
+            return 0;
+        } else if (courses < 25) {
+            return 1;
+        } else if (courses < 50) {
+            return 2;
+        } else if (courses < 100) {
+            return 3;
+        }
+        return 4;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.backend;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs transcript parsing on a dedicated, bounded pool of threads, so a burst of uploads cannot
+ * tie up the request threads serving the cheap endpoints. When all workers are busy and the queue
+ * is full, new work is rejected immediately instead of waiting.
+ *
+ * Queue depth and active workers are published as the {@code executor.*} metrics with
+ * {@code name=transcript-parse}; rejections are counted in {@code transcript.parse.rejected}.
+ */
+@Component
+public class TranscriptParseExecutor {
+
+    /**
+     * The name the executor's threads and metrics are given.
+     */
+    static final String EXECUTOR_NAME = "transcript-parse";
+
+    /**
+     * The pool the parses run on.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Counts the parses rejected because the queue was full.
+     */
+    private final Counter rejections;
+
+    /**
+     * How long clients are told to wait before retrying a rejected upload, in seconds.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs the executor from configuration and registers its metrics.
+     *
+     * @param threads the number of parses that run at once
+     * @param queueCapacity the maximum number of parses waiting for a worker
+     * @param retryAfterSeconds how long clients are told to wait before retrying, in seconds
+     * @param registry the registry the executor metrics are published to
+     */
+    public TranscriptParseExecutor(
+            @Value("${transcript.parse.threads:2}") int threads,
+            @Value("${transcript.parse.queue-capacity:8}") int queueCapacity,
+            @Value("${transcript.parse.retry-after-seconds:5}") long retryAfterSeconds,
+            MeterRegistry registry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejections = Counter.builder("transcript.parse.rejected")
+            .description("Transcript parses rejected because the parse queue was full")
+            .register(registry);
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, List.of()).bindTo(registry);
+    }
+
+    /**
+     * Queues a task on the parse pool.
+     *
+     * @param task the task to run
+     * @param <T> the type of the task's result
+     * @return a future completed with the task's result, or exceptionally with whatever it threw, Errors included
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                // An Error must complete the future too, or the request waiting on it never gets a response
+                try {
+                    future.complete(task.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Returns how long clients should wait before retrying a rejected upload.
+     *
+     * @return the retry delay in seconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Stops accepting parses when the application shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.backend;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+
+/**
+ * The TranscriptRegionExtractor class extracts the two transcript columns of a page from glyph
+ * positions rather than from laid-out page text. Glyphs are collected as the content stream is
+ * processed, and the stripper's own sorting, line building and text output are skipped entirely;
+ * glyphs are grouped into rows by their y-coordinate instead, within half a glyph height.
+ *
+ * Each printed page on a PDF page starts with a column header row (" COURSE  Course Title ...")
+ * whose two "COURSE" labels give the x-coordinate of each column. Only the rows between a column
+ * header row and the next printed page are read; the title block above each header is never
+ * turned into text. Each title block starts with the same row as the first one on the PDF page,
+ * which marks where the next printed page begins. Within a column, each glyph is placed at the
+ * character cell its x-coordinate falls in, measured in the glyph width of the header row, so the
+ * fixed field offsets used by {@link PDFParser#buildCourses} hold even if the font size drifts.
+ */
+public class TranscriptRegionExtractor extends PDFTextStripper {
+
+    /**
+     * The label that starts each column in the column header row.
+     */
+    private static final String COLUMN_LABEL = "COURSE";
+
+    /**
+     * The number of transcript columns on a printed page.
+     */
+    private static final int COLUMN_COUNT = 2;
+
+    /**
+     * The initial capacity of the glyph buffers, enough for a typical page.
+     */
+    private static final int INITIAL_GLYPH_CAPACITY = 4096;
+
+    /**
+     * The x-coordinate of each glyph collected from the current page.
+     */
+    private float[] glyphX = new float[INITIAL_GLYPH_CAPACITY];
+
+    /**
+     * The y-coordinate of each glyph collected from the current page, measured from the top.
+     */
+    private float[] glyphY = new float[INITIAL_GLYPH_CAPACITY];
+
+    /**
+     * The width of each glyph collected from the current page.
+     */
+    private float[] glyphWidth = new float[INITIAL_GLYPH_CAPACITY];
+
+    /**
+     * The height of each glyph collected from the current page.
+     */
+    private float[] glyphHeight = new float[INITIAL_GLYPH_CAPACITY];
+
+    /**
+     * The character of each glyph collected from the current page.
+     */
+    private char[] glyphChar = new char[INITIAL_GLYPH_CAPACITY];
+
+    /**
+     * The number of glyphs collected from the current page.
+     */
+    private int glyphCount;
+
+    /**
+     * Constructs a TranscriptRegionExtractor.
+     *
+     * @throws IOException if the PDFBox text stripper cannot be initialised
+     */
+    public TranscriptRegionExtractor() throws IOException {
+        super();
+    }
+
+    /**
+     * Extracts the transcript columns of a page and pushes them into the stream, first column
+     * before second column for each printed page.
+     *
+     * @param document the loaded PDF document
+     * @param page the page to extract (1-based)
+     * @param stream the stream receiving the column lines
+     * @return true if the page was extracted, or false if it has no column header row, in which
+     *         case nothing was pushed and the page should be extracted as text instead
+     * @throws IOException if the page content cannot be read
+     */
+    public boolean extractPage(PDDocument document, int page, TranscriptLineStream stream) throws IOException {
+        glyphCount = 0;
+        setStartPage(page);
+        setEndPage(page);
+        getText(document);
+
+        List<int[]> rows = groupRows();
+        List<Integer> headerRows = new ArrayList<>();
+        List<float[]> headerColumnX = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (isColumnHeaderRow(rows.get(i))) {
+                float[] columnX = findColumnX(rows.get(i));
+                if (columnX == null) {
+                    return false;
+                }
+                headerRows.add(i);
+                headerColumnX.add(columnX);
+            }
+        }
+        if (headerRows.isEmpty()) {
+            return false;
+        }
+
+        for (int h = 0; h < headerRows.size(); h++) {
+            int[] header = rows.get(headerRows.get(h));
+            float[] columnX = headerColumnX.get(h);
+            float advance = glyphWidth[header[0]];
+            int nextPageTop = h + 1 < headerRows.size()
+                ? findPageTop(rows, headerRows.get(h), headerRows.get(h + 1), headerRows.get(0))
+                : rows.size();
+
+            List<String> secondColumn = new ArrayList<>();
+            for (int r = headerRows.get(h) + 1; r < nextPageTop; r++) {
+                int[] row = rows.get(r);
+                String first = columnText(row, columnX[0], columnX[1], advance);
+                String second = columnText(row, columnX[1], Float.MAX_VALUE, advance);
+                if (first != null) {
+                    stream.accept(first);
+                }
+                if (second != null) {
+                    secondColumn.add(second);
+                }
+            }
+            stream.endColumn();
+
+            for (String line : secondColumn) {
+                stream.accept(line);
+            }
+            stream.endColumn();
+
+            if (stream.isComplete()) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects each visible glyph of the page; whitespace glyphs carry no field content and are dropped.
+     *
+     * @param text the glyph being shown
+     */
+    @Override
+    protected void processTextPosition(TextPosition text) {
+        String unicode = text.getUnicode();
+        if (unicode == null) {
+            return;
+        }
+
+        for (int i = 0; i < unicode.length(); i++) {
+            char c = unicode.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (glyphCount == glyphChar.length) {
+                grow();
+            }
+            glyphX[glyphCount] = text.getXDirAdj() + i * text.getWidthDirAdj() / unicode.length();
+            glyphY[glyphCount] = text.getYDirAdj();
+            glyphWidth[glyphCount] = text.getWidthDirAdj() / unicode.length();
+            glyphHeight[glyphCount] = text.getHeightDir();
+            glyphChar[glyphCount] = c;
+            glyphCount++;
+        }
+    }
+
+    /**
+     * Skips laying out the page as text; the collected glyphs are read by position instead.
+     */
+    @Override
+    protected void writePage() {
+    }
+
+    /**
+     * Groups the collected glyphs into rows, top to bottom, with each row's glyphs ordered left to right.
+     * A glyph joins the row above it if it sits within half a glyph height of that row's first glyph, so
+     * glyphs of one row whose y-coordinates differ slightly are never split into two rows.
+     *
+     * @return the glyph indexes of each row
+     */
+    private List<int[]> groupRows() {
+        int[] byY = sortByY();
+        List<int[]> rows = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= glyphCount; i++) {
+            int first = byY[start];
+            if (i == glyphCount || glyphY[byY[i]] - glyphY[first] > rowTolerance(first)) {
+                int[] row = Arrays.copyOfRange(byY, start, i);
+                sortByX(row);
+                rows.add(row);
+                start = i;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns how far below a row's first glyph another glyph may sit and still be on the same row.
+     * Glyphs without a usable height fall back to their width.
+     *
+     * @param glyph the index of the row's first glyph
+     * @return half the height of the glyph
+     */
+    private float rowTolerance(int glyph) {
+        float height = glyphHeight[glyph] > 0 ? glyphHeight[glyph] : glyphWidth[glyph];
+        return height / 2;
+    }
+
+    /**
+     * Finds the first row of the printed page that starts with a column header row. The search runs
+     * up from the header, so the closest repeat of the PDF page's first row is the top of the title
+     * block. If the first row is never repeated, the title block is taken to have as many rows as the
+     * one above the first header.
+     *
+     * @param rows the glyph indexes of each row, top to bottom
+     * @param previousHeader the row index of the column header row of the previous printed page
+     * @param header the row index of the column header row of the printed page
+     * @param firstHeader the row index of the first column header row on the PDF page
+     * @return the row index the printed page starts at
+     */
+    private int findPageTop(List<int[]> rows, int previousHeader, int header, int firstHeader) {
+        int[] titleRow = rows.get(0);
+        for (int r = header - 1; r > previousHeader; r--) {
+            if (sameText(rows.get(r), titleRow)) {
+                return r;
+            }
+        }
+        return Math.max(previousHeader + 1, header - firstHeader);
+    }
+
+    /**
+     * Returns whether two rows have the same glyphs, ignoring their positions.
+     *
+     * @param row the glyph indexes of one row, left to right
+     * @param other the glyph indexes of the other row, left to right
+     * @return true if the rows spell the same text
+     */
+    private boolean sameText(int[] row, int[] other) {
+        if (row.length != other.length) {
+            return false;
+        }
+        for (int i = 0; i < row.length; i++) {
+            if (glyphChar[row[i]] != glyphChar[other[i]]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a row is a column header row, which starts with the column label.
+     *
+     * @param row the glyph indexes of the row, left to right
+     * @return true if the row is a column header row
+     */
+    private boolean isColumnHeaderRow(int[] row) {
+        return labelAt(row, 0);
+    }
+
+    /**
+     * Finds where each column starts from the positions of the column labels in a header row.
+     * A column starts one character before its label, matching the label's indent in the first column.
+     *
+     * @param header the glyph indexes of the column header row, left to right
+     * @return the x-coordinate each column starts at, or null if the row does not label every column
+     */
+    private float[] findColumnX(int[] header) {
+        float[] columnX = new float[COLUMN_COUNT];
+        int found = 0;
+        for (int i = 0; i < header.length && found < COLUMN_COUNT; i++) {
+            if (labelAt(header, i)) {
+                columnX[found++] = glyphX[header[i]] - glyphWidth[header[i]];
+                i += COLUMN_LABEL.length() - 1;
+            }
+        }
+        return found == COLUMN_COUNT ? columnX : null;
+    }
+
+    /**
+     * Returns whether the column label starts at a glyph of a row.
+     *
+     * @param row the glyph indexes of the row, left to right
+     * @param from the position in the row to check
+     * @return true if the column label starts at the position
+     */
+    private boolean labelAt(int[] row, int from) {
+        if (from + COLUMN_LABEL.length() > row.length) {
+            return false;
+        }
+        for (int i = 0; i < COLUMN_LABEL.length(); i++) {
+            if (glyphChar[row[from + i]] != COLUMN_LABEL.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the text of a row within one column, placing each glyph at the character cell its
+     * x-coordinate falls in. The text starts at the column's first glyph, so it needs no trimming.
+     *
+     * @param row the glyph indexes of the row, left to right
+     * @param fromX the x-coordinate the column starts at
+     * @param toX the x-coordinate the next column starts at
+     * @param advance the width of one character cell
+     * @return the column text of the row, or null if the row has no glyphs in the column
+     */
+    private String columnText(int[] row, float fromX, float toX, float advance) {
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < row.length; i++) {
+            float x = glyphX[row[i]];
+            if (x >= fromX && x < toX) {
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        if (first < 0) {
+            return null;
+        }
+
+        int firstCell = Math.round((glyphX[row[first]] - fromX) / advance);
+        int lastCell = Math.round((glyphX[row[last]] - fromX) / advance);
+        char[] cells = new char[lastCell - firstCell + 1];
+        Arrays.fill(cells, ' ');
+        for (int i = first; i <= last; i++) {
+            int cell = Math.round((glyphX[row[i]] - fromX) / advance) - firstCell;
+            cells[cell] = glyphChar[row[i]];
+        }
+        return new String(cells);
+    }
+
+    /**
+     * Returns the indexes of the collected glyphs ordered by y-coordinate, top to bottom, keeping
+     * glyphs at the same y-coordinate in the order they were collected. Each glyph is sorted as one
+     * long holding its y-coordinate above its index, so no boxing or comparator is needed.
+     *
+     * @return the glyph indexes, top to bottom
+     */
+    private int[] sortByY() {
+        long[] keys = new long[glyphCount];
+        for (int i = 0; i < glyphCount; i++) {
+            // Flip the magnitude bits of negative floats so the raw bits order like the float values
+            int bits = Float.floatToIntBits(glyphY[i]);
+            bits ^= (bits >> 31) & Integer.MAX_VALUE;
+            keys[i] = ((long) bits << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] byY = new int[glyphCount];
+        for (int i = 0; i < glyphCount; i++) {
+            byY[i] = (int) keys[i];
+        }
+        return byY;
+    }
+
+    /**
+     * Sorts the glyph indexes of a row by x-coordinate. Rows are short and almost always already
+     * in order, so an insertion sort is used.
+     *
+     * @param row the glyph indexes of the row
+     */
+    private void sortByX(int[] row) {
+        for (int i = 1; i < row.length; i++) {
+            int glyph = row[i];
+            int j = i - 1;
+            while (j >= 0 && glyphX[row[j]] > glyphX[glyph]) {
+                row[j + 1] = row[j];
+                j--;
+            }
+            row[j + 1] = glyph;
+        }
+    }
+
+    /**
+     * Doubles the capacity of the glyph buffers.
+     */
+    private void grow() {
+        int capacity = glyphChar.length * 2;
+        glyphX = Arrays.copyOf(glyphX, capacity);
+        glyphY = Arrays.copyOf(glyphY, capacity);
+        glyphWidth = Arrays.copyOf(glyphWidth, capacity);
+        glyphHeight = Arrays.copyOf(glyphHeight, capacity);
+        glyphChar = Arrays.copyOf(glyphChar, capacity);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.backend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a single classified transcript line. The token refers to its source line by offsets
+ * rather than copying it, and fields are only sliced out when they are asked for.
+ * Course tokens also collect the standalone course type tokens that follow them.
+ */
+public class TranscriptToken {
+
+    // Length of the term code taken from the start of a term header, e.g. "FA" from "Fall Term 2023"
+    private static final int TERM_CODE_LENGTH = 2;
+    private static final int TERM_YEAR_SUFFIX_START = 2;
+    private static final int TERM_YEAR_DIGIT_COUNT = 4;
+
+    /**
+     * The kind of the line.
+     */
+    private final LineKind kind;
+
+    /**
+     * The source line the token was lexed from.
+     */
+    private final String line;
+
+    /**
+     * The index of the first non-whitespace character in the line.
+     */
+    private final int start;
+
+    /**
+     * The index after the last non-whitespace character in the line.
+     */
+    private final int end;
+
+    /**
+     * For term headers, the index of the first digit of the year; otherwise -1.
+     */
+    private final int termYearOffset;
+
+    /**
+     * For course tokens, the standalone course type tokens that follow the course line.
+     */
+    private List<TranscriptToken> courseTypes;
+
+    /**
+     * Constructs a TranscriptToken over the trimmed region of a line.
+     *
+     * @param kind the kind of the line
+     * @param line the source line
+     * @param start the index of the first non-whitespace character
+     * @param end the index after the last non-whitespace character
+     * @param termYearOffset the index of the first year digit for term headers, or -1
+     */
+    public TranscriptToken(LineKind kind, String line, int start, int end, int termYearOffset) {
+        this.kind = kind;
+        this.line = line;
+        this.start = start;
+        this.end = end;
+        this.termYearOffset = termYearOffset;
+    }
+
+    /**
+     * Returns the kind of the line.
+     *
+     * @return the line kind
+     */
+    public LineKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the length of the trimmed line.
+     *
+     * @return the trimmed length
+     */
+    public int length() {
+        return end - start;
+    }
+
+    /**
+     * Returns the trimmed field between two offsets of the trimmed line. Offsets past the end of the
+     * line are clamped, so a short line yields an empty field instead of an exception.
+     *
+     * @param from the offset of the start of the field, relative to the trimmed line
+     * @param to the offset of the end of the field, relative to the trimmed line
+     * @return the trimmed field
+     */
+    public String field(int from, int to) {
+        int fieldStart = Math.min(start + from, end);
+        int fieldEnd = Math.min(start + to, end);
+        while (fieldStart < fieldEnd && line.charAt(fieldStart) <= ' ') {
+            fieldStart++;
+        }
+        while (fieldEnd > fieldStart && line.charAt(fieldEnd - 1) <= ' ') {
+            fieldEnd--;
+        }
+        return line.substring(fieldStart, fieldEnd);
+    }
+
+    /**
+     * Returns the trimmed field from an offset of the trimmed line to the end of the line.
+     *
+     * @param from the offset of the start of the field, relative to the trimmed line
+     * @return the trimmed field
+     */
+    public String fieldFrom(int from) {
+        return field(from, length());
+    }
+
+    /**
+     * Returns the trimmed text of the line.
+     *
+     * @return the trimmed line
+     */
+    public String text() {
+        return line.substring(start, end);
+    }
+
+    /**
+     * Converts a term header token to a term code in the format "YY/TC", e.g. "23/FA" for Fall Term 2023.
+     *
+     * @return the term code
+     * @throws IllegalStateException if the token is not a term header
+     */
+    public String termCode() {
+        if (termYearOffset < 0) {
+            throw new IllegalStateException("Not a term header: " + text());
+        }
+        String year = line.substring(termYearOffset + TERM_YEAR_SUFFIX_START, termYearOffset + TERM_YEAR_DIGIT_COUNT);
+        String term = line.substring(start, Math.min(start + TERM_CODE_LENGTH, end)).toUpperCase();
+        return year + "/" + term;
+    }
+
+    /**
+     * Appends a standalone course type token to this course token.
+     *
+     * @param courseType the course type token
+     */
+    public void addCourseType(TranscriptToken courseType) {
+        if (courseTypes == null) {
+            courseTypes = new ArrayList<>();
+        }
+        courseTypes.add(courseType);
+    }
+
+    /**
+     * Returns the course types of this course token, joined by ", ". The course types are those
+     * printed on the course line from the given offset, followed by any standalone course type tokens.
+     *
+     * @param typesStart the offset of the course types on the course line, relative to the trimmed line
+     * @return the joined course types, or "N/A" if the course has none
+     */
+    public String joinedTypes(int typesStart) {
+        StringBuilder types = new StringBuilder();
+        if (length() > typesStart) {
+            types.append(fieldFrom(typesStart).replace(" ", ", "));
+        }
+        if (courseTypes != null) {
+            for (TranscriptToken courseType : courseTypes) {
+                if (types.length() > 0) {
+                    types.append(", ");
+                }
+                types.append(courseType.line, courseType.start, courseType.end);
+            }
+        }
+        return types.length() > 0 ? types.toString() : "N/A";
+    }
+
+    /**
+     * Returns the trimmed text of the line.
+     *
+     * @return the trimmed line
+     */
+    @Override
+    public String toString() {
+        return text();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a transcript PDF exceeds the byte or page limits of {@link TranscriptLoadLimits}.
+ */
+public class TranscriptTooLargeException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a TranscriptTooLargeException.
+     *
+     * @param message a description of the limit that was exceeded
+     */
+    public TranscriptTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.backend;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Archives the original uploaded transcript PDFs for audit purposes. Archiving is opt-in
+ * ({@code upload.archive.enabled}) and runs in the background, so uploads are parsed from memory
+ * and never wait on disk.
+ */
+@Service
+public class UploadArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadArchiveService.class);
+
+    /**
+     * Whether uploaded PDFs are archived at all.
+     */
+    private final boolean enabled;
+
+    /**
+     * The directory the uploaded PDFs are archived to.
+     */
+    private final Path archiveDir;
+
+    /**
+     * The background writer that performs the archiving.
+     */
+    private final BackgroundWriter writer;
+
+    /**
+     * Constructs the archive service from configuration.
+     *
+     * @param enabled whether uploaded PDFs are archived
+     * @param archiveDir the directory the uploaded PDFs are archived to
+     * @param queueCapacity the maximum number of uploads waiting to be archived
+     */
+    public UploadArchiveService(
+            @Value("${upload.archive.enabled:false}") boolean enabled,
+            @Value("${upload.archive.dir:uploads}") String archiveDir,
+            @Value("${upload.archive.queue-capacity:16}") int queueCapacity) {
+        this.enabled = enabled;
+        this.archiveDir = Paths.get(archiveDir);
+        this.writer = new BackgroundWriter("upload-archive", queueCapacity);
+    }
+
+    /**
+     * Queues the archiving of an uploaded PDF, if archiving is enabled. The file is stored under a
+     * unique prefix so uploads with the same name never overwrite each other.
+     *
+     * @param originalFilename the name the file was uploaded with
+     * @param pdf the contents of the uploaded PDF, which must not be modified afterwards
+     * @return the path the PDF will be written to, or null if it will not be written
+     */
+    public Path archive(String originalFilename, byte[] pdf) {
+        if (!enabled) {
+            return null;
+        }
+
+        Path target = archiveDir.resolve(UUID.randomUUID() + "-" + safeFilename(originalFilename));
+        boolean queued = writer.submit(target.toString(), () -> write(pdf, target));
+        return queued ? target : null;
+    }
+
+    /**
+     * Writes the PDF to a temporary file, then moves it into place.
+     *
+     * @param pdf the contents of the PDF
+     * @param target the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    private void write(byte[] pdf, Path target) throws IOException {
+        Files.createDirectories(archiveDir);
+        Path temp = Files.createTempFile(archiveDir, "upload-", ".pdf.tmp");
+        try {
+            Files.write(temp, pdf);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Archived upload to {}", target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reduces an uploaded filename to its last path segment, so it cannot point outside the archive directory.
+     *
+     * @param originalFilename the name the file was uploaded with, which may be null
+     * @return a filename safe to resolve against the archive directory
+     */
+    private static String safeFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "transcript.pdf";
+        }
+        String name = originalFilename.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1);
+        return name.isBlank() || name.equals("..") ? "transcript.pdf" : name;
+    }
+
+    /**
+     * Waits briefly for queued uploads to be archived when the application shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        writer.close();
+    }
+}
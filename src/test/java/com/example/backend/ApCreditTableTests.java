@@ -0,0 +1,55 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ApCreditTableTests {
+
+	private final ApCreditTable table = RequirementCatalog.getDefault().getApCredits();
+
+	@Test
+	void grantsTheEquivalentCoursesOfEachExamScore() {
+		ApCreditTable.Grant grant = table.apply(exams("calculus bc, 5", "Chemistry, 3", "English Language and Composition, 4"),
+			List.of());
+
+		assertEquals(List.of(new ApCreditTable.Award(new ApCreditTable.Exam("calculus bc", 5), 2.0, List.of("MTH-110", "MTH-112")),
+				new ApCreditTable.Award(new ApCreditTable.Exam("English Language and Composition", 4), 1.0, List.of())),
+			grant.awards());
+		assertEquals(List.of("MTH-110", "MTH-112"), grant.courses().stream().map(Course::getCode).toList());
+		assertTrue(grant.courses().stream().allMatch(course -> course.isAP() && course.getCredits() == 1));
+	}
+
+	@Test
+	void appliesPairedExamsOnlyTogetherAndGrantsEachCourseOnce() {
+		assertTrue(table.apply(exams("Macroeconomics, 5"), List.of()).awards().isEmpty());
+
+		ApCreditTable.Grant grant = table.apply(exams("Macroeconomics, 5", "Microeconomics, 4"), List.of());
+		assertEquals(2, grant.awards().size());
+		assertEquals(List.of("ECO-101"), grant.courses().stream().map(Course::getCode).toList());
+	}
+
+	@Test
+	void skipsCoursesAlreadyOnTheTranscript() {
+		List<Course> transcript = List.of(new Course("Fall", "2023", "MTH-110", "Calculus 1", 0L, 1, "B+"));
+
+		ApCreditTable.Grant grant = table.apply(exams("Calculus AB (or AB subscore), 5"), transcript);
+
+		assertEquals(List.of("MTH-112"), grant.courses().stream().map(Course::getCode).toList());
+		assertEquals(List.of("MTH-110", "MTH-112"), grant.addTo(transcript).stream().map(Course::getCode).toList());
+	}
+
+	@Test
+	void rejectsExamsWithoutAScore() {
+		assertThrows(IllegalArgumentException.class, () -> ApCreditTable.Exam.parse("Calculus BC"));
+		assertThrows(IllegalArgumentException.class, () -> ApCreditTable.Exam.parse("Calculus BC, five"));
+	}
+
+	private static List<ApCreditTable.Exam> exams(String... exams) {
+		return ApCreditTable.Exam.parseAll(List.of(exams));
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.example.backend;
+
+import static com.example.backend.TranscriptIndexTests.courses;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AssignmentEngineTests {
+
+	private final AssignmentEngine engine = new AssignmentEngine(Duration.ofMillis(50));
+
+	@Test
+	void assignsCoursesSoLaterRequirementsAreNotStarved() {
+		// Greedily, Electives takes ECO-364 first and leaves Business Analytics without a course
+		Student student = student("Managerial Economics", "ECO-364", "ECO-210", "ECO-220");
+
+		assertTrue(student.getProgressString().contains("[ ] Business Analytics (Not Completed)"));
+		String progress = student.getProgressString(engine);
+		assertTrue(progress.contains("[X] Electives (Completed)\n   Fulfilled by: ECO-210, ECO-220\n"));
+		assertTrue(progress.contains("[X] Business Analytics (Completed)\n   Fulfilled by: ECO-364\n"));
+	}
+
+	@Test
+	void choosesTheSequenceThatLeavesCoursesForOtherRequirements() {
+		Student student = student("Computer Science", "MTH-113", "MTH-110", "MTH-112");
+
+		String progress = student.getProgressString(engine);
+		assertTrue(progress.contains("[X] Calculus Sequence (Completed)"));
+		assertTrue(progress.contains("[X] Math Elective (Completed)"));
+	}
+
+	@Test
+	void requiresTheCourseTypeAlongsideTheLevelThresholds() {
+		// Four courses at 300 and up and one at 110 and up, one of which must be a WAC-R
+		ArrayList<Course> courses = courses("CSC-310", "CSC-320", "CSC-330", "CSC-340", "CSC-210");
+		assertTrue(audit(courses).contains("[~] Electives (Partially Completed)"));
+
+		courses.set(4, new Course("Fall", "2023", "CSC-210", "Course", new ArrayList<>(List.of("WAC-R")), 1, "A"));
+		assertTrue(audit(courses).contains("[X] Electives (Completed)"));
+	}
+
+	@Test
+	void keepsTheFirstAssignmentWhenTheBudgetIsSpent() {
+		RequirementCatalog catalog = RequirementCatalog.getDefault();
+		TranscriptIndex index = new TranscriptIndex(courses("MTH-110", "MTH-112"));
+
+		AssignmentEngine.Assignment assignment = new AssignmentEngine(Duration.ZERO)
+			.assign(catalog.getRequirements(false, "Computer Science"), index, catalog.getWildcardExclusions());
+
+		// Only the first choice of calculus sequence, MTH-105 then MTH-112, is tried
+		assertFalse(assignment.isOptimal());
+		assertArrayEquals(new int[] {1}, assignment.courses(4, 0));
+		assertArrayEquals(new int[0], assignment.courses(4, 1));
+		assertArrayEquals(new int[] {0}, assignment.courses(6));
+	}
+
+	private String audit(ArrayList<Course> courses) {
+		return new Student(2027, courses, new ArrayList<>(List.of(new Concentration(false, "Computer Science"))),
+			new ArrayList<>()).getProgressString(engine);
+	}
+
+	private static Student student(String major, String... codes) {
+		return new Student(2027, courses(codes), new ArrayList<>(List.of(new Concentration(false, major))),
+			new ArrayList<>());
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.example.backend;
+
+import static com.example.backend.TranscriptIndexTests.courses;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AuditResultTests {
+
+	@Test
+	void reportsEachRequirementsStatusCoursesAndRemainingConstraints() {
+		AuditResult result = student("CSC-105", "CSC-120", "CSC-151", "CSC-310", "CSC-320", "MTH-105", "MTH-112").audit();
+
+		AuditResult.ConcentrationResult major = result.majors().get(0);
+		assertEquals("Computer Science", major.name());
+		AuditResult.RequirementResult introductory = major.requirements().get(0);
+		assertEquals("major/computer-science/introductory-course", introductory.id());
+		assertEquals(AuditResult.Status.COMPLETED, introductory.status());
+		assertEquals(List.of("CSC-105"), introductory.fulfilledBy());
+
+		AuditResult.RequirementResult core = major.requirements().get(1);
+		assertEquals(AuditResult.Status.PARTIALLY_COMPLETED, core.status());
+		assertEquals(3, core.remaining());
+		assertEquals(List.of("CSC-250", "CSC-260", "CSC-270"), core.remainingCourses());
+
+		AuditResult.RequirementResult electives = major.requirements().get(3);
+		assertEquals(List.of(new AuditResult.LevelResult(110, 5, 3), new AuditResult.LevelResult(300, 4, 2)),
+			electives.levels());
+		assertEquals(List.of(new AuditResult.TypeResult("WAC-R", 1, 1)), electives.types());
+
+		AuditResult.RequirementResult calculus = major.requirements().get(4);
+		assertEquals(AuditResult.Status.COMPLETED, calculus.status());
+		assertEquals(List.of("MTH-105", "MTH-112"), calculus.fulfilledBy());
+		assertEquals(List.of("MTH-105", "MTH-112"), calculus.sequences().get(0).fulfilledBy());
+		assertEquals(List.of("MTH-110", "MTH-112"), calculus.sequences().get(1).courseGroups());
+	}
+
+	@Test
+	void rendersTheProgressTextFromTheResult() {
+		Student student = student("CSC-105", "CSC-120", "MTH-199");
+		AuditResult result = student.audit();
+
+		assertEquals(student.getProgressString(), result.toText());
+		assertTrue(result.toText().startsWith("\n======== Student Progress ========\nGraduation Year: 2027\n"));
+		assertTrue(result.majors().get(0).requirements().get(0).toText()
+			.equals("[X] Introductory Course (Completed)\n   Fulfilled by: CSC-105\n\n"));
+	}
+
+	@Test
+	void serializesToJsonWithoutTheText() throws Exception {
+		JsonNode json = new ObjectMapper().valueToTree(student("CSC-105", "MTH-199").audit());
+
+		assertEquals(2027, json.get("gradYr").asInt());
+		JsonNode requirement = json.get("majors").get(0).get("requirements").get(0);
+		assertEquals("COMPLETED", requirement.get("status").asText());
+		assertEquals("CSC-105", requirement.get("fulfilledBy").get(0).asText());
+		assertEquals(0, requirement.get("remaining").asInt());
+		assertEquals("minor/mathematics/logic-set-theory", json.get("minors").get(0).get("requirements").get(0).get("id").asText());
+		assertTrue(json.findValues("text").isEmpty());
+	}
+
+	private static Student student(String... codes) {
+		return new Student(2027, courses(codes), new ArrayList<>(List.of(new Concentration(false, "Computer Science"))),
+			new ArrayList<>(List.of(new Concentration(true, "Mathematics"))));
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+
+class BulkAuditServiceTests {
+
+	@Test
+	void streamsOneResultPerTranscriptInArchive() throws Exception {
+		ByteArrayOutputStream zip = new ByteArrayOutputStream();
+		try (ZipOutputStream out = new ZipOutputStream(zip)) {
+			addEntry(out, "cohort/secrist.pdf", Files.readAllBytes(Paths.get("src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf")));
+			addEntry(out, "cohort/cavalluzzi.pdf", Files.readAllBytes(Paths.get("src/main/resources/Cavalluzzi_Annie_2687199_2_24_2025.pdf")));
+			addEntry(out, "cohort/broken.pdf", "not a pdf".getBytes(StandardCharsets.UTF_8));
+			addEntry(out, "cohort/readme.txt", "skipped".getBytes(StandardCharsets.UTF_8));
+		}
+
+		ObjectMapper mapper = new ObjectMapper();
+		BulkManifest manifest = BulkManifest.parse("""
+			{"default": {"dropdown1": ["Computer Science"]},
+			 "transcripts": {"cavalluzzi.pdf": {"dropdown1": [], "dropdown2": ["Mathematics"], "apExams": ["Calculus BC, 5"]}}}
+			""", mapper);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		CatalogService catalogService = new CatalogService(mapper, registry, "", Duration.ofSeconds(2));
+		BulkAuditService service = new BulkAuditService(2, 1, mapper, TranscriptLoadLimits.defaults(),
+			new TranscriptMetrics(registry), catalogService);
+		ByteArrayOutputStream results = new ByteArrayOutputStream();
+		try {
+			service.audit(new ByteArrayInputStream(zip.toByteArray()), manifest, results);
+		} finally {
+			service.close();
+			catalogService.close();
+		}
+
+		Map<String, JsonNode> byFile = new HashMap<>();
+		for (String line : results.toString(StandardCharsets.UTF_8).split("\n")) {
+			JsonNode result = mapper.readTree(line);
+			byFile.put(result.get("file").asText(), result);
+		}
+
+		assertEquals(3, byFile.size());
+		JsonNode secrist = byFile.get("cohort/secrist.pdf");
+		assertEquals("ok", secrist.get("status").asText());
+		assertEquals(24, secrist.get("courses").asInt());
+		assertEquals("Computer Science", secrist.get("progress").get("majors").get(0).get("name").asText());
+		assertTrue(secrist.get("progress").get("majors").get(0).get("requirements").get(0).has("status"));
+		JsonNode cavalluzzi = byFile.get("cohort/cavalluzzi.pdf");
+		assertEquals("Mathematics", cavalluzzi.get("progress").get("minors").get(0).get("name").asText());
+		assertEquals("Calculus BC", cavalluzzi.get("apCredits").get(0).get("exam").get("name").asText());
+		assertTrue(secrist.path("apCredits").isMissingNode());
+		assertEquals("error", byFile.get("cohort/broken.pdf").get("status").asText());
+	}
+
+	@Test
+	void failsInsteadOfHangingWhenClosedMidAudit() throws Exception {
+		byte[] pdf = Files.readAllBytes(Paths.get("src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf"));
+		ByteArrayOutputStream zip = new ByteArrayOutputStream();
+		try (ZipOutputStream out = new ZipOutputStream(zip)) {
+			for (int i = 0; i < 4; i++) {
+				addEntry(out, "cohort/" + i + ".pdf", pdf);
+			}
+		}
+
+		ObjectMapper mapper = new ObjectMapper();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		CatalogService catalogService = new CatalogService(mapper, registry, "", Duration.ofSeconds(2));
+		BulkAuditService service = new BulkAuditService(1, 4, mapper, TranscriptLoadLimits.defaults(),
+			new TranscriptMetrics(registry), catalogService);
+		// The only worker blocks writing its first result, so the other transcripts wait in the queue
+		CountDownLatch writing = new CountDownLatch(1);
+		OutputStream blocked = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				writing.countDown();
+				try {
+					new CountDownLatch(1).await();
+				} catch (InterruptedException e) {
+					throw new InterruptedIOException();
+				}
+			}
+		};
+		try {
+			CompletableFuture<Void> audit = CompletableFuture.runAsync(() -> {
+				try {
+					service.audit(new ByteArrayInputStream(zip.toByteArray()), BulkManifest.parse(null, mapper), blocked);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			writing.await();
+			service.close();
+
+			ExecutionException thrown = assertThrows(ExecutionException.class,
+				() -> assertTimeoutPreemptively(Duration.ofSeconds(30), () -> audit.get()));
+			assertTrue(thrown.getCause().getCause() instanceof IOException);
+			// Every permit was given back, so a later audit is refused rather than left waiting for one
+			assertThrows(IOException.class, () -> assertTimeoutPreemptively(Duration.ofSeconds(30),
+				() -> service.audit(new ByteArrayInputStream(zip.toByteArray()), BulkManifest.parse(null, mapper),
+					new ByteArrayOutputStream())));
+		} finally {
+			service.close();
+			catalogService.close();
+		}
+	}
+
+	private static void addEntry(ZipOutputStream out, String name, byte[] content) throws Exception {
+		out.putNextEntry(new ZipEntry(name));
+		out.write(content);
+		out.closeEntry();
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CatalogServiceTests {
+
+	private static final List<String> WORKBOOKS = List.of(CatalogWorkbooks.MAJOR_LIST, CatalogWorkbooks.MINOR_LIST,
+		CatalogWorkbooks.MAJOR_REQUIREMENTS, CatalogWorkbooks.MINOR_REQUIREMENTS, CatalogWorkbooks.COURSE_LIST,
+		CatalogWorkbooks.AP_CREDITS, CatalogWorkbooks.WILDCARD_EXCLUSIONS);
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void swapsInAChangedCatalogWhileEarlierSnapshotsStayIntact() throws Exception {
+		copyBundledWorkbooks();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		CatalogService service = new CatalogService(new ObjectMapper(), registry, directory.toString(), Duration.ofHours(1));
+		try {
+			CatalogSnapshot started = service.current();
+
+			// The same workbooks as the bundled catalog keep the current snapshot
+			assertSame(started, service.reload().get());
+
+			addMajor("Underwater Basket Weaving");
+			CatalogSnapshot reloaded = service.reload().get();
+
+			assertSame(reloaded, service.current());
+			assertEquals(1, reloaded.getGeneration());
+			assertNotEquals(started.getVersion(), reloaded.getVersion());
+			assertTrue(reloaded.getCatalog().getMajorNames().contains("Underwater Basket Weaving"));
+			assertNotEquals(started.getDropdownOptions().getETag(), reloaded.getDropdownOptions().getETag());
+			assertFalse(started.getCatalog().getMajorNames().contains("Underwater Basket Weaving"));
+
+			assertEquals(1, registry.get(CatalogService.RELOAD_TIMER).tag("result", "updated").timer().count());
+			assertEquals(1, registry.get(CatalogService.RELOAD_TIMER).tag("result", "unchanged").timer().count());
+			assertEquals(1.0, registry.get(CatalogService.SNAPSHOT_GAUGE).tag("version", reloaded.getVersion()).gauge().value());
+		} finally {
+			service.close();
+		}
+	}
+
+	@Test
+	void reloadsWhenAWorkbookInTheDirectoryChanges() throws Exception {
+		copyBundledWorkbooks();
+		CatalogService service = new CatalogService(new ObjectMapper(), new SimpleMeterRegistry(), directory.toString(),
+			Duration.ofMillis(100));
+		try {
+			addMajor("Underwater Basket Weaving");
+
+			long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+			while (!service.current().getCatalog().getMajorNames().contains("Underwater Basket Weaving")
+					&& System.nanoTime() < deadline) {
+				Thread.sleep(50);
+			}
+			assertTrue(service.current().getCatalog().getMajorNames().contains("Underwater Basket Weaving"));
+		} finally {
+			service.close();
+		}
+	}
+
+	@Test
+	void completesTheReloadWhenItThrowsAnError() throws Exception {
+		copyBundledWorkbooks();
+		AtomicBoolean fail = new AtomicBoolean();
+		// Publishing the new snapshot's gauge is part of the reload, so an Error thrown there escapes it
+		SimpleMeterRegistry registry = new SimpleMeterRegistry() {
+			@Override
+			protected <T> Gauge newGauge(Meter.Id id, T obj, ToDoubleFunction<T> valueFunction) {
+				if (fail.getAndSet(false)) {
+					throw new LinkageError("simulated");
+				}
+				return super.newGauge(id, obj, valueFunction);
+			}
+		};
+		CatalogService service = new CatalogService(new ObjectMapper(), registry, directory.toString(), Duration.ofHours(1));
+		try {
+			addMajor("Underwater Basket Weaving");
+			fail.set(true);
+
+			ExecutionException thrown = assertThrows(ExecutionException.class,
+				() -> service.reload().get(30, TimeUnit.SECONDS));
+			assertInstanceOf(LinkageError.class, thrown.getCause());
+			assertEquals(1, registry.get(CatalogService.RELOAD_TIMER).tag("result", "failed").timer().count());
+
+			// The reload thread survives the Error and serves the next request
+			assertTrue(service.reload().get(30, TimeUnit.SECONDS).getCatalog().getMajorNames()
+				.contains("Underwater Basket Weaving"));
+		} finally {
+			service.close();
+		}
+	}
+
+	private void copyBundledWorkbooks() throws Exception {
+		for (String workbook : WORKBOOKS) {
+			try (InputStream in = getClass().getClassLoader().getResourceAsStream(workbook)) {
+				Files.copy(in, directory.resolve(workbook), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	private void addMajor(String name) throws Exception {
+		Path majorList = directory.resolve(CatalogWorkbooks.MAJOR_LIST);
+		try (Workbook workbook = WorkbookFactory.create(Files.newInputStream(majorList))) {
+			Sheet sheet = workbook.getSheetAt(0);
+			sheet.createRow(sheet.getLastRowNum() + 1).createCell(0).setCellValue(name);
+
+			// Write to a scratch file and move it in, as an export would, so the catalog is never read half-written
+			Path scratch = directory.resolve("Major-List.tmp");
+			try (OutputStream out = Files.newOutputStream(scratch)) {
+				workbook.write(out);
+			}
+			Files.move(scratch, majorList, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CourseCatalogTests {
+
+	private static final CourseCatalog CATALOG = CourseCatalog.builder()
+		.add("Fall 2023", "CSC-120", "Programming on Purpose", List.of("Quant & Math Reasoning"), 1.0)
+		.add("Fall 2021", "CSC-120", "Programming on Purpose", List.of(), 1.0)
+		.add("Winter 2022", "CSC-250", "Data Structures", List.of(), 1.0)
+		.add("Spring 2023", "HST-269", "Orwell's England 1900-1950", List.of(), 1.0)
+		.add("Winter 2022", "HST-269", "Epidemics and Empire", List.of(), 1.0)
+		.add("Fall 2022", "MTH-110", "Calculus 1: Differential Calc", List.of(), 1.0)
+		.add("Fall 2022", "AOP-003", "Pre-Calculus", List.of(), 1.0)
+		.add("Fall 2022", "GEO-206L", "Volcanology Lab", List.of(), 0.5)
+		.build();
+
+	@Test
+	void mergesOfferingsAndIndexesByDepartmentAndNumber() {
+		List<CatalogCourse> programming = CATALOG.getCourses("csc-120");
+		assertEquals(1, programming.size());
+		assertEquals(List.of("Fall 2021", "Fall 2023"), programming.get(0).getTerms());
+		assertEquals(List.of("Quant & Math Reasoning"), programming.get(0).getAreas());
+
+		// A topics course is one catalog course per title
+		assertEquals(List.of("Epidemics and Empire", "Orwell's England 1900-1950"),
+			CATALOG.getCourses("HST-269").stream().map(CatalogCourse::getTitle).toList());
+		assertEquals(List.of("120", "250"), List.copyOf(CATALOG.getDepartment("CSC").keySet()));
+		assertEquals(0.5, CATALOG.getCourses("GEO-206L").get(0).getCredits());
+		assertTrue(CATALOG.getCourses("CSC-999").isEmpty());
+	}
+
+	@Test
+	void searchesCodesNumbersAndTitleWordsByPrefix() {
+		assertEquals(List.of("CSC-120", "CSC-250"), codes("csc"));
+		assertEquals(List.of("CSC-120"), codes("CSC-12"));
+		assertEquals(List.of("CSC-120"), codes("csc 1"));
+		assertEquals(List.of("CSC-120"), codes("prog PURP"));
+		assertEquals(List.of("AOP-003", "MTH-110"), codes("calc"));
+		assertEquals(List.of("AOP-003"), codes("precalc"));
+		assertEquals(List.of("HST-269"), codes("orwell's"));
+		assertEquals(List.of("GEO-206L"), codes("206l"));
+		assertTrue(codes("csc calc").isEmpty());
+		assertTrue(codes("zzz").isEmpty());
+		assertEquals(CATALOG.size(), CATALOG.search("  ", 0, 100).total());
+	}
+
+	@Test
+	void pagesResults() {
+		CourseCatalog.SearchPage first = CATALOG.search("", 0, 3);
+		CourseCatalog.SearchPage last = CATALOG.search("", 2, 3);
+
+		assertEquals(CATALOG.size(), first.total());
+		assertEquals(CATALOG.getCourses().subList(0, 3), first.courses());
+		assertEquals(CATALOG.getCourses().subList(6, CATALOG.size()), last.courses());
+		assertTrue(CATALOG.search("", 5, 3).courses().isEmpty());
+	}
+
+	private static List<String> codes(String query) {
+		return CATALOG.search(query, 0, 10).courses().stream().map(CatalogCourse::getCode).distinct().toList();
+	}
+
+}
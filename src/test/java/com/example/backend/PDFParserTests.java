@@ -0,0 +1,96 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PDFParserTests {
+
+	private static final String SAMPLE_TRANSCRIPT = "src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf";
+
+	@Test
+	void parsesCoursesDirectlyFromPdf() throws Exception {
+		ArrayList<Course> courses = PDFParser.parseCourses(SAMPLE_TRANSCRIPT);
+
+		assertEquals(24, courses.size());
+
+		Course transfer = courses.get(0);
+		assertEquals("CSC-105", transfer.getCode());
+		assertNull(transfer.getTerm());
+		assertEquals("T", transfer.getGrade());
+		assertEquals(1, transfer.getCredits());
+
+		Course graded = courses.get(6);
+		assertEquals("ATH-100", graded.getCode());
+		assertEquals("Public Speaking", graded.getTitle());
+		assertEquals("FA", graded.getTerm());
+		assertEquals("23", graded.getYear());
+		assertEquals("A", graded.getGrade());
+		assertEquals(1, graded.getCredits());
+	}
+
+	@Test
+	void parsesCoursesFromBytesInMemory() throws Exception {
+		byte[] pdf = Files.readAllBytes(Paths.get(SAMPLE_TRANSCRIPT));
+
+		ArrayList<Course> fromBytes = PDFParser.parseCourses(pdf);
+		ArrayList<Course> fromPath = PDFParser.parseCourses(SAMPLE_TRANSCRIPT);
+
+		assertEquals(fromPath.size(), fromBytes.size());
+		for (int i = 0; i < fromPath.size(); i++) {
+			assertEquals(fromPath.get(i).getCode(), fromBytes.get(i).getCode());
+			assertEquals(fromPath.get(i).getGrade(), fromBytes.get(i).getGrade());
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		SAMPLE_TRANSCRIPT,
+		"src/main/resources/Cavalluzzi_Annie_2687199_2_24_2025.pdf",
+		"uploads/Secrist_Liam_2686252_2_14_2025_redacted.pdf"
+	})
+	void regionExtractionMatchesTextExtraction(String transcript) throws Exception {
+		try (PDDocument document = PDDocument.load(Files.readAllBytes(Paths.get(transcript)))) {
+			List<Course> fromText = PDFParser.buildCourses(PDFParser.streamTokens(document, 1, document.getNumberOfPages()));
+			List<Course> fromRegions = PDFParser.buildCourses(PDFParser.streamRegionTokens(document, 1, document.getNumberOfPages()));
+
+			assertEquals(fromText.size(), fromRegions.size());
+			for (int i = 0; i < fromText.size(); i++) {
+				assertEquals(fromText.get(i).toString(), fromRegions.get(i).toString());
+				assertEquals(fromText.get(i).getTypes(), fromRegions.get(i).getTypes());
+				assertEquals(fromText.get(i).getTitle(), fromRegions.get(i).getTitle());
+			}
+		}
+	}
+
+	@Test
+	void convertsTermHeadersWithOrWithoutDates() {
+		assertEquals("23/FA", PDFParser.convertTermToCode("Fall Term 2023             (09/06/2023 - 11/21/2023)"));
+		assertEquals("24/SP", PDFParser.convertTermToCode("Spring Term 2024           (04/01/2024 - 06/13/2024)"));
+		assertEquals("24/FA", PDFParser.convertTermToCode("Fall Term 2024"));
+	}
+
+	@Test
+	void parsesCourseAttributesByExactCode() throws Exception {
+		ArrayList<Course> courses = PDFParser.parseCourses(SAMPLE_TRANSCRIPT);
+
+		Course discrete = courses.stream().filter(course -> course.getCode().equals("MTH-199")).findFirst().orElseThrow();
+		assertTrue(discrete.hasAnyAttribute(CourseAttribute.WAC_R.mask()));
+		assertFalse(discrete.hasAnyAttribute(CourseAttribute.WAC.mask()));
+		assertEquals(List.of("WAC-R"), discrete.getTypes());
+
+		assertEquals(CourseAttribute.LCC.mask() | CourseAttribute.SOCS.mask(), CourseAttribute.parseMask("LCCS, SOCS"));
+		assertEquals(0L, CourseAttribute.parseMask("N/A"));
+	}
+
+}
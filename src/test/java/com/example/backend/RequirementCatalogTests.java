@@ -0,0 +1,128 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RequirementCatalogTests {
+
+	@Test
+	void looksUpConcentrationsIgnoringCase() {
+		RequirementCatalog catalog = RequirementCatalog.getDefault();
+
+		List<Requirement> requirements = catalog.getRequirements(false, "Computer Science");
+		assertFalse(requirements.isEmpty());
+		assertSame(requirements, catalog.getRequirements(false, "computer science"));
+		assertSame(requirements, new Concentration(false, "COMPUTER SCIENCE", catalog).getReqs());
+		assertTrue(catalog.contains(true, "Mathematics"));
+		assertTrue(catalog.getRequirements(false, "Not A Major").isEmpty());
+		assertThrows(UnsupportedOperationException.class, () -> requirements.add(requirements.get(0)));
+	}
+
+	@Test
+	void readsBackTheCatalogCompiledFromTheWorkbooks() throws IOException {
+		RequirementCatalog compiled = CatalogWorkbooks.load();
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		CatalogSnapshotFormat.write(compiled, snapshot);
+
+		RequirementCatalog read = CatalogSnapshotFormat.read(new ByteArrayInputStream(snapshot.toByteArray()));
+
+		assertEquals(compiled.getVersion(), read.getVersion());
+		assertEquals(compiled.getMajorNames(), read.getMajorNames());
+		assertEquals(compiled.getMinorNames(), read.getMinorNames());
+		for (boolean minor : new boolean[] {false, true}) {
+			assertEquals(compiled.requirements(minor).keySet(), read.requirements(minor).keySet());
+			compiled.requirements(minor).forEach((name, requirements) -> {
+				List<Requirement> readRequirements = read.requirements(minor).get(name);
+				assertEquals(requirements.size(), readRequirements.size());
+				for (int i = 0; i < requirements.size(); i++) {
+					assertEquals(describe(requirements.get(i)), describe(readRequirements.get(i)));
+				}
+			});
+		}
+
+		assertEquals(compiled.getCourses().size(), read.getCourses().size());
+		for (int i = 0; i < compiled.getCourses().size(); i++) {
+			CatalogCourse course = compiled.getCourses().getCourses().get(i);
+			CatalogCourse readCourse = read.getCourses().getCourses().get(i);
+			assertEquals(List.of(course.getCode(), course.getTitle(), course.getAreas(), course.getCredits(), course.getTerms()),
+				List.of(readCourse.getCode(), readCourse.getTitle(), readCourse.getAreas(), readCourse.getCredits(),
+					readCourse.getTerms()));
+		}
+
+		assertEquals(compiled.getApCredits().getRules(), read.getApCredits().getRules());
+		assertEquals(compiled.getWildcardExclusions(), read.getWildcardExclusions());
+
+		// The build compiles the same workbooks into the snapshot the default catalog is read from
+		assertEquals(compiled.getVersion(), RequirementCatalog.getDefault().getVersion());
+	}
+
+	@Test
+	void compilesTheSameCatalogToTheSameBytes() throws IOException {
+		RequirementCatalog compiled = CatalogWorkbooks.load();
+		// The same catalog with its requirement indexes iterating in reverse, as another JVM might
+		RequirementCatalog reordered = new RequirementCatalog(compiled.getVersion(), compiled.getMajorNames(),
+			compiled.getMinorNames(), reversed(compiled.requirements(false)), reversed(compiled.requirements(true)),
+			compiled.getCourses(), compiled.getApCredits(), compiled.getWildcardExclusions());
+
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		CatalogSnapshotFormat.write(compiled, first);
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		CatalogSnapshotFormat.write(CatalogWorkbooks.load(), second);
+		ByteArrayOutputStream third = new ByteArrayOutputStream();
+		CatalogSnapshotFormat.write(reordered, third);
+
+		assertArrayEquals(first.toByteArray(), second.toByteArray());
+		assertArrayEquals(first.toByteArray(), third.toByteArray());
+	}
+
+	@Test
+	void rejectsSnapshotsOfAnotherFormatVersion() throws IOException {
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		CatalogSnapshotFormat.write(RequirementCatalog.getDefault(), snapshot);
+		byte[] bytes = snapshot.toByteArray();
+		bytes[5]++; // The low byte of the format version, after the magic number
+
+		assertThrows(IOException.class, () -> CatalogSnapshotFormat.read(new ByteArrayInputStream(bytes)));
+	}
+
+	private static String describe(Requirement requirement) {
+		StringBuilder description = new StringBuilder(requirement.getTitle())
+			.append(' ').append(requirement.getNumNeeded())
+			.append(' ').append(requirement.getGradeRequirement());
+		if (requirement.isSeq()) {
+			for (Requirement sequence : requirement.getSequences()) {
+				description.append(" (").append(describe(sequence)).append(')');
+			}
+		} else {
+			description.append(' ').append(requirement.getCourseGroups())
+				.append(' ').append(requirement.getNumReqs())
+				.append(' ').append(requirement.getTypeReqs());
+		}
+		return description.toString();
+	}
+
+	private static Map<String, List<Requirement>> reversed(Map<String, List<Requirement>> index) {
+		List<String> names = new ArrayList<>(index.keySet());
+		Collections.reverse(names);
+		Map<String, List<Requirement>> reversed = new LinkedHashMap<>();
+		for (String name : names) {
+			reversed.put(name, index.get(name));
+		}
+		return reversed;
+	}
+
+}
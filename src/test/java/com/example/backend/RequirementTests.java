@@ -0,0 +1,35 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RequirementTests {
+
+	@Test
+	void compilesConstraintStringsOnce() {
+		Requirement requirement = Requirement.fromCourseGroups("Electives", new ArrayList<>(List.of("CSC-XXX")), 5,
+			"5 (>= 110), 4 (>= 300)", "1 (WAC-R), 2 (GLIT, GSPE)", "C-");
+
+		assertEquals(List.of(new Requirement.LevelConstraint(5, 110), new Requirement.LevelConstraint(4, 300)),
+			requirement.getLevelConstraints());
+		assertEquals(List.of(
+				new Requirement.AttributeConstraint(1, "WAC-R", CourseAttribute.WAC_R.mask()),
+				new Requirement.AttributeConstraint(2, "GLIT, GSPE", CourseAttribute.GLIT.mask() | CourseAttribute.GSPE.mask())),
+			requirement.getAttributeConstraints());
+		assertEquals(Course.gradePoints("C-"), requirement.getMinimumGradePoints());
+
+		Requirement unconstrained = Requirement.fromCourseGroups("Core", new ArrayList<>(List.of("CSC-120")), 1, "", "", "");
+		assertTrue(unconstrained.getLevelConstraints().isEmpty());
+		assertTrue(unconstrained.getAttributeConstraints().isEmpty());
+		assertEquals(Double.NEGATIVE_INFINITY, unconstrained.getMinimumGradePoints());
+
+		assertThrows(IllegalArgumentException.class, () -> Requirement.fromCourseGroups("Electives",
+			new ArrayList<>(List.of("CSC-XXX")), 1, "four (>= 300)", "", ""));
+	}
+
+}
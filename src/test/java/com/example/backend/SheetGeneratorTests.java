@@ -0,0 +1,71 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.jupiter.api.Test;
+
+class SheetGeneratorTests {
+
+	@Test
+	void streamsTheSameRowsAsTheLoadedSheet() throws Exception {
+		for (String workbook : List.of(CatalogWorkbooks.MAJOR_REQUIREMENTS, "AP-Test-Credits.xlsx")) {
+			List<List<String>> streamed = new ArrayList<>();
+			SheetGenerator.readRows(workbook, row -> {
+				List<String> cells = new ArrayList<>();
+				for (int i = 0; i < row.size(); i++) {
+					cells.add(row.getString(i));
+				}
+				streamed.add(cells);
+			});
+
+			assertEquals(loaded(new SheetGenerator(workbook).getSheet()), streamed, workbook);
+		}
+	}
+
+	@Test
+	void readsNumericCells() throws Exception {
+		List<Double> credits = new ArrayList<>();
+		SheetGenerator.readRows("AP-Test-Credits.xlsx", row -> {
+			if (row.getRowNum() > 0 && !row.isBlank(2)) {
+				credits.add(row.getNumber(2));
+			}
+		});
+
+		assertEquals(new SheetGenerator("AP-Test-Credits.xlsx").getSheet().getRow(1).getCell(2).getNumericCellValue(),
+			credits.get(0));
+	}
+
+	@Test
+	void rejectsStreamsThatAreNotWorkbooks() {
+		assertThrows(IOException.class,
+			() -> SheetGenerator.readRows(new ByteArrayInputStream(new byte[] { 1, 2, 3 }), row -> { }));
+		assertThrows(IOException.class, () -> SheetGenerator.readRows("No-Such-Workbook.xlsx", row -> { }));
+	}
+
+	private static List<List<String>> loaded(Sheet sheet) {
+		List<List<String>> rows = new ArrayList<>();
+		for (Row row : sheet) {
+			List<String> cells = new ArrayList<>();
+			for (int i = 0; i < row.getLastCellNum(); i++) {
+				Cell cell = row.getCell(i);
+				String value = cell == null ? "" : cell.toString();
+				cells.add(value.isEmpty() ? null : value);
+			}
+			// Trailing blank cells are not part of a streamed row
+			while (!cells.isEmpty() && cells.get(cells.size() - 1) == null) {
+				cells.remove(cells.size() - 1);
+			}
+			rows.add(cells);
+		}
+		return rows;
+	}
+
+}
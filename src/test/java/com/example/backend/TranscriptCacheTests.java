@@ -0,0 +1,84 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class TranscriptCacheTests {
+
+	private static final String SAMPLE_TRANSCRIPT = "src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf";
+
+	@Test
+	void reusesParseOfIdenticalBytes() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		TranscriptCache cache = new TranscriptCache(16, Duration.ofMinutes(5), TranscriptLoadLimits.defaults(), new TranscriptMetrics(registry), registry);
+		byte[] pdf = Files.readAllBytes(Paths.get(SAMPLE_TRANSCRIPT));
+
+		ArrayList<Course> first = cache.getCourses(pdf);
+		ArrayList<Course> second = cache.getCourses(pdf.clone());
+
+		assertEquals(24, second.size());
+		assertNotSame(first, second);
+		assertEquals(1, cache.size());
+		assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+		assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+	}
+
+	@Test
+	void coalescesConcurrentParsesOfIdenticalBytes() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		TranscriptCache cache = new TranscriptCache(16, Duration.ofMinutes(5), TranscriptLoadLimits.defaults(), new TranscriptMetrics(registry), registry);
+		byte[] pdf = Files.readAllBytes(Paths.get(SAMPLE_TRANSCRIPT));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<ArrayList<Course>>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.getCourses(pdf)));
+			}
+			for (Future<ArrayList<Course>> result : results) {
+				assertEquals(24, result.get().size());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	void completesTheParseWhenItThrowsAnError() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		AtomicBoolean fail = new AtomicBoolean(true);
+		// Recording the first stage is part of the parse, so an Error thrown there escapes parseCourses
+		TranscriptMetrics metrics = new TranscriptMetrics(registry) {
+			@Override
+			public void record(Stage stage, int pages, int courses, long nanos) {
+				if (fail.getAndSet(false)) {
+					throw new StackOverflowError();
+				}
+				super.record(stage, pages, courses, nanos);
+			}
+		};
+		TranscriptCache cache = new TranscriptCache(16, Duration.ofMinutes(5), TranscriptLoadLimits.defaults(), metrics, registry);
+		byte[] pdf = Files.readAllBytes(Paths.get(SAMPLE_TRANSCRIPT));
+
+		assertThrows(StackOverflowError.class, () -> cache.getCourses(pdf));
+		// The failed parse is not left in the cache for later uploads of the same bytes to wait on
+		assertEquals(24, assertTimeoutPreemptively(Duration.ofSeconds(30), () -> cache.getCourses(pdf)).size());
+	}
+
+}
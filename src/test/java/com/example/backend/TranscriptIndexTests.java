@@ -0,0 +1,60 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TranscriptIndexTests {
+
+	@Test
+	void looksUpEveryAttemptAtACourseCode() {
+		TranscriptIndex index = new TranscriptIndex(courses("MTH-110", "CSC-120", "MTH-110", "MTH-112"));
+
+		assertArrayEquals(new int[] {0, 2}, index.code("MTH-110"));
+		assertArrayEquals(new int[] {1}, index.code("CSC-120"));
+		assertArrayEquals(new int[0], index.code("CSC-250"));
+		assertArrayEquals(new int[0], index.code("CSC-XXX"));
+		assertEquals("MTH-112", index.get(3).getCode());
+	}
+
+	@Test
+	void fetchesDepartmentBucketsInTranscriptOrder() {
+		TranscriptIndex index = new TranscriptIndex(courses("CSC-385", "MTH-110", "CSC-120", "CSC-11X", "CSC-295H", "CSC-310"));
+
+		assertArrayEquals(new int[] {0, 2, 3, 4, 5}, index.department("CSC", -1));
+		assertArrayEquals(new int[] {0, 2, 4, 5}, index.department("CSC", 0));
+		// The 200s bucket holds CSC-295H, which the caller still compares against 250
+		assertArrayEquals(new int[] {0, 4, 5}, index.department("CSC", 250));
+		assertArrayEquals(new int[] {0, 5}, index.department("CSC", 300));
+		assertArrayEquals(new int[0], index.department("STA", -1));
+		assertEquals("295H", index.number(4));
+		assertEquals("CSC", TranscriptIndex.department("CSC-XXX"));
+	}
+
+	@Test
+	void wildcardRequirementsSkipTheCatalogsExcludedNumbers() {
+		assertEquals(Set.of("295H", "296H", "297H"), RequirementCatalog.getDefault().getWildcardExclusions());
+
+		Student student = new Student(2027, courses("CSC-295H", "CSC-385", "CSC-240"),
+			new ArrayList<>(List.of(new Concentration(false, "Computer Science"))), new ArrayList<>());
+		String progress = student.getProgressString();
+
+		assertTrue(progress.contains("Completed: CSC-385, CSC-240\n"));
+		assertFalse(progress.contains("CSC-295H"));
+	}
+
+	static ArrayList<Course> courses(String... codes) {
+		ArrayList<Course> courses = new ArrayList<>();
+		for (String code : codes) {
+			courses.add(new Course("Fall", "2023", code, "Course", 0L, 1, "A"));
+		}
+		return courses;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TranscriptLexerTests {
+
+	@Test
+	void classifiesEachLineKind() {
+		assertEquals(LineKind.COURSE, TranscriptLexer.classify("  ATH 100  Public Speaking             A    1.00  1.00  4.00 HUM"));
+		assertEquals(LineKind.COURSE, TranscriptLexer.classify("FYI 100H Dreaming                    B+   1.00  1.00  3.30"));
+		assertEquals(LineKind.TERM_HEADER, TranscriptLexer.classify("     Fall Term 2023             (09/06/2023 - 11/21/2023)"));
+		assertEquals(LineKind.COURSE_TYPE, TranscriptLexer.classify("  WAC-  "));
+		assertEquals(LineKind.OTHER, TranscriptLexer.classify("TERM . . . . . . . . . . . . . . . . . . . . . GPA  3.900"));
+		assertEquals(LineKind.OTHER, TranscriptLexer.classify("Dean's List Awarded"));
+		assertEquals(LineKind.OTHER, TranscriptLexer.classify(""));
+	}
+
+	@Test
+	void slicesFieldsAndTermCodes() {
+		TranscriptToken course = TranscriptLexer.lex("  ATH 100  Public Speaking             A    1.00  1.00  4.00 HUM");
+		course.addCourseType(TranscriptLexer.lex("GCAD"));
+		assertEquals("ATH 100", course.field(0, 9));
+		assertEquals("Public Speaking", course.field(9, 37));
+		assertEquals("A", course.field(37, 42));
+		assertEquals("HUM, GCAD", course.joinedTypes(59));
+
+		assertEquals("23/FA", TranscriptLexer.lex("Fall Term 2023             (09/06/2023 - 11/21/2023)").termCode());
+		assertEquals("24/WI", TranscriptLexer.lex("Winter Term 2024").termCode());
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+class TranscriptLineStreamTests {
+
+	private static final String SAMPLE_TRANSCRIPT = "src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf";
+
+	@Test
+	void streamsEachPagesFirstColumnBeforeItsSecond() throws Exception {
+		RecordingStream stream = new RecordingStream();
+		try (PDDocument document = PDDocument.load(Files.readAllBytes(Paths.get(SAMPLE_TRANSCRIPT)))) {
+			PDFTextStripper stripper = new PDFTextStripper();
+			stripper.setStartPage(1);
+			stripper.setEndPage(1);
+			PDFParser.reorderPage(stripper.getText(document), stream);
+		}
+
+		// CSC 105 and SCH 150 share the first printed row, one in each column
+		int firstColumnTop = indexOf(stream.lines, "CSC 105");
+		int firstColumnBottom = indexOf(stream.lines, "PSC 111");
+		int secondColumnTop = indexOf(stream.lines, "SCH 150");
+		assertTrue(firstColumnTop < firstColumnBottom);
+		assertTrue(firstColumnBottom < secondColumnTop);
+		assertTrue(stream.isComplete());
+
+		List<TranscriptToken> tokens = stream.getTokens();
+		assertEquals("CSC 105", tokens.get(0).field(0, 9));
+		assertEquals("ECO 242", tokens.get(tokens.size() - 1).field(0, 9));
+	}
+
+	@Test
+	void stopsAtEndOfRecord() {
+		TranscriptLineStream stream = new TranscriptLineStream();
+		stream.accept("Fall Term 2023             (09/06/2023 - 11/21/2023)");
+		stream.accept("ATH 100  Public Speaking             A    1.00  1.00  4.00 HUM");
+		stream.accept("GCAD");
+		stream.accept("*** END OF RECORD ***");
+		stream.accept("MTH 113  Acc Single-Variable Calculu A    1.00  1.00  4.00 QMR");
+
+		assertTrue(stream.isComplete());
+		List<TranscriptToken> tokens = stream.getTokens();
+		assertEquals(2, tokens.size());
+		assertEquals("23/FA", tokens.get(0).termCode());
+		assertEquals("ATH 100", tokens.get(1).field(0, 9));
+		assertEquals("HUM, GCAD", tokens.get(1).joinedTypes(59));
+	}
+
+	private static int indexOf(List<String> lines, String prefix) {
+		for (int i = 0; i < lines.size(); i++) {
+			if (lines.get(i).startsWith(prefix)) {
+				return i;
+			}
+		}
+		throw new AssertionError("No line starts with " + prefix);
+	}
+
+	private static class RecordingStream extends TranscriptLineStream {
+
+		private final List<String> lines = new ArrayList<>();
+
+		@Override
+		public void accept(String line) {
+			if (!isComplete()) {
+				lines.add(line);
+			}
+			super.accept(line);
+		}
+	}
+
+}
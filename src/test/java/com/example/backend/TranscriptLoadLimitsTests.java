@@ -0,0 +1,30 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TranscriptLoadLimitsTests {
+
+	private static final String SAMPLE_TRANSCRIPT = "src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf";
+
+	@Test
+	void rejectsTranscriptsOverByteOrPageLimit() throws Exception {
+		byte[] pdf = Files.readAllBytes(Paths.get(SAMPLE_TRANSCRIPT));
+
+		TranscriptLoadLimits tooFewBytes = new TranscriptLoadLimits(DataSize.ofBytes(pdf.length - 1), 20, DataSize.ofKilobytes(64), "");
+		assertThrows(TranscriptTooLargeException.class, () -> PDFParser.parseCourses(pdf, tooFewBytes));
+
+		TranscriptLoadLimits onePage = new TranscriptLoadLimits(DataSize.ofMegabytes(10), 1, DataSize.ofKilobytes(64), "");
+		assertThrows(TranscriptTooLargeException.class, () -> PDFParser.parseCourses(pdf, onePage));
+
+		// A tiny heap budget spills to a scratch file but parses the same courses
+		TranscriptLoadLimits smallBudget = new TranscriptLoadLimits(DataSize.ofBytes(pdf.length), 2, DataSize.ofKilobytes(16), "");
+		assertEquals(24, PDFParser.parseCourses(pdf, smallBudget).size());
+	}
+
+}
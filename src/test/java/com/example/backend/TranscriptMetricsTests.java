@@ -0,0 +1,39 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class TranscriptMetricsTests {
+
+	@Test
+	void recordsEachParseStageTaggedByItsSize() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		TranscriptMetrics metrics = new TranscriptMetrics(registry);
+		int registered = registry.find(TranscriptMetrics.TIMER_NAME).timers().size();
+		byte[] pdf = Files.readAllBytes(Paths.get("src/main/resources/Secrist_Liam_2686252_2_14_2025.pdf"));
+
+		ArrayList<Course> courses = PDFParser.parseCourses(pdf, TranscriptLoadLimits.defaults(), metrics);
+
+		assertEquals(24, courses.size());
+		assertEquals(1, count(registry, "load", "pages", "2"));
+		assertEquals(1, count(registry, "extract", "pages", "2"));
+		assertEquals(1, count(registry, "build", "courses", "10-24"));
+		assertEquals(registered, registry.find(TranscriptMetrics.TIMER_NAME).timers().size());
+		assertEquals(60, registered);
+	}
+
+	private static long count(SimpleMeterRegistry registry, String stage, String sizeTag, String bucket) {
+		long count = 0;
+		for (Timer timer : registry.find(TranscriptMetrics.TIMER_NAME).tag("stage", stage).tag(sizeTag, bucket).timers()) {
+			count += timer.count();
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.example.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TranscriptParseExecutorTests {
+
+	@Test
+	void rejectsWorkOnceQueueIsFull() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		TranscriptParseExecutor executor = new TranscriptParseExecutor(1, 1, 7, registry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			CompletableFuture<String> running = executor.submit(() -> {
+				started.countDown();
+				release.await();
+				return "first";
+			});
+			started.await();
+			CompletableFuture<String> queued = executor.submit(() -> "second");
+
+			assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> "third"));
+			assertEquals(1.0, registry.get("transcript.parse.rejected").counter().count());
+			assertEquals(1.0, registry.get("executor.queued").tag("name", "transcript-parse").gauge().value());
+			assertEquals(7, executor.getRetryAfterSeconds());
+
+			release.countDown();
+			assertEquals("first", running.get());
+			assertEquals("second", queued.get());
+		} finally {
+			release.countDown();
+			executor.close();
+		}
+	}
+
+	@Test
+	void completesExceptionallyWhenTaskThrowsAnError() throws Exception {
+		TranscriptParseExecutor executor = new TranscriptParseExecutor(1, 1, 5, new SimpleMeterRegistry());
+		try {
+			CompletableFuture<String> failed = executor.submit(() -> {
+				throw new StackOverflowError();
+			});
+
+			ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(30, TimeUnit.SECONDS));
+			assertInstanceOf(StackOverflowError.class, thrown.getCause());
+			// The worker survives the Error and keeps serving the queue
+			assertEquals("next", executor.submit(() -> "next").get(30, TimeUnit.SECONDS));
+		} finally {
+			executor.close();
+		}
+	}
+
+}